@@ -0,0 +1,24 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks of the toolkit with the garbage collector profiler, so that the throughput of each operation is reported with
+ * its allocation rate (<code>gc.alloc.rate.norm</code>, in bytes per operation).
+ * <p>
+ * Usage : <code>java -jar target/benchmarks.jar [regexp]</code>, where the optional regular expression selects the benchmarks to
+ * run.
+ */
+public class BenchmarkRunner {
+
+	public static void main(String[] args) throws RunnerException {
+		OptionsBuilder builder = new OptionsBuilder();
+		builder.include(args.length == 0 ? BenchmarkRunner.class.getPackage().getName() + ".*" : args[0]);
+		Options options = builder.addProfiler(GCProfiler.class).warmupIterations(5).measurementIterations(5).forks(1).build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,191 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.benchmarks;
+
+import java.util.List;
+
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+import fr.pederobien.minecraftdevelopmenttoolkit.impl.AbstractGenericMapEdition;
+import fr.pederobien.minecraftdevelopmenttoolkit.impl.AbstractGenericParentEdition;
+import fr.pederobien.minecraftdevelopmenttoolkit.impl.AbstractHelper;
+import fr.pederobien.minecraftdevelopmenttoolkit.interfaces.IGenericEdition;
+import fr.pederobien.minecraftdevelopmenttoolkit.utils.Arguments;
+
+/**
+ * Synthetic command tree. Each node has the same number of children, labelled "node0", "node1", ..., down to the leaves that
+ * execute the command.
+ */
+public class BenchmarkTree {
+	private final Root root;
+	private final Helper helper;
+	private final int depth, fanout;
+
+	/**
+	 * Creates a tree.
+	 *
+	 * @param depth  The number of editions between the root and a leaf, leaf included.
+	 * @param fanout The number of children of the root and of each node.
+	 */
+	public BenchmarkTree(int depth, int fanout) {
+		this.depth = depth;
+		this.fanout = fanout;
+		helper = new Helper();
+		root = new Root(helper);
+		for (int i = 0; i < fanout; i++)
+			root.addEdition(create(1, i));
+	}
+
+	/**
+	 * @return The root of the tree.
+	 */
+	public Root getRoot() {
+		return root;
+	}
+
+	/**
+	 * @return The helper of the root.
+	 */
+	public Helper getHelper() {
+		return helper;
+	}
+
+	/**
+	 * @param index The index of the child to follow at each level.
+	 *
+	 * @return The labels from the root to a leaf, following the child at the given index at each level.
+	 */
+	public String[] path(int index) {
+		String[] path = new String[depth];
+		for (int i = 0; i < depth; i++)
+			path[i] = label(index % fanout);
+		return path;
+	}
+
+	/**
+	 * @param index The index of a child.
+	 *
+	 * @return The label of the child at the given index.
+	 */
+	public static String label(int index) {
+		return "node" + index;
+	}
+
+	private Node create(int level, int index) {
+		if (level == depth)
+			return new Leaf(label(index));
+
+		Node node = new Node(label(index));
+		for (int i = 0; i < fanout; i++)
+			node.addEdition(create(level + 1, i));
+		return node;
+	}
+
+	public static class Root extends AbstractGenericParentEdition<String, Object, Root, Node> {
+
+		private Root(Helper helper) {
+			super("benchmark", "The root of the benchmark tree", helper);
+		}
+
+		@Override
+		public Object get() {
+			return null;
+		}
+
+		@Override
+		public void set(Object object) {
+		}
+
+		@Override
+		public Root addEdition(Node elt) {
+			elt.setParent(this);
+			internalAdd(elt);
+			return this;
+		}
+
+		@Override
+		public Root removeEdition(Node elt) {
+			internalRemove(elt);
+			return this;
+		}
+
+		@Override
+		public Root setAvailable(boolean available) {
+			internalSetAvailable(available);
+			return this;
+		}
+
+		@Override
+		public Root setModifiable(boolean modifiable) {
+			internalSetModifiable(modifiable);
+			return this;
+		}
+	}
+
+	public static class Node extends AbstractGenericMapEdition<String, Object, Root, Node> {
+
+		private Node(String label) {
+			super(label, "The explanation of " + label);
+		}
+
+		@Override
+		public Node addEdition(Node elt) {
+			internalAdd(elt);
+			return this;
+		}
+
+		@Override
+		public Node removeEdition(Node elt) {
+			internalRemove(elt);
+			return this;
+		}
+
+		@Override
+		public Node setAvailable(boolean available) {
+			internalSetAvailable(available);
+			return this;
+		}
+
+		@Override
+		public Node setModifiable(boolean modifiable) {
+			internalSetModifiable(modifiable);
+			return this;
+		}
+	}
+
+	public static class Leaf extends Node {
+
+		private Leaf(String label) {
+			super(label);
+		}
+
+		@Override
+		public boolean onCommand(CommandSender sender, Command command, String label, Arguments args) {
+			return args.isEmpty();
+		}
+	}
+
+	public static class Helper extends AbstractHelper<String, Object, Root, Node> {
+		private int length;
+
+		private Helper() {
+			super("Display the explanation of the commands");
+		}
+
+		/**
+		 * @return The number of characters of the explanations sent since the creation of this helper.
+		 */
+		public int getLength() {
+			return length;
+		}
+
+		@Override
+		protected void sendMessage(Player player, List<IGenericEdition<String>> editions) {
+			// Renders the explanations as a real helper would, without sending them.
+			StringBuilder builder = new StringBuilder();
+			for (IGenericEdition<String> edition : editions)
+				builder.append(edition.getLabel()).append(" - ").append(edition.getExplanation()).append('\n');
+			length += builder.length();
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.benchmarks;
+
+import java.util.Arrays;
+
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Tree shared by the benchmarks of a trial, with the arguments typed by a player to reach its last leaf.
+ */
+@State(Scope.Benchmark)
+public class CommandTreeState {
+
+	/**
+	 * The number of editions between the root and a leaf, leaf included.
+	 */
+	@Param({ "1", "2", "4" })
+	public int depth;
+
+	/**
+	 * The number of children of the root and of each node.
+	 */
+	@Param({ "4", "16" })
+	public int fanout;
+
+	public BenchmarkTree tree;
+	public Command command;
+	public CommandSender sender;
+	public Player player;
+
+	/**
+	 * The labels from the root to the last leaf.
+	 */
+	public String[] commandArgs;
+
+	/**
+	 * The labels from the root to the parent of the last leaf, followed by the beginning of the label of the leaf.
+	 */
+	public String[] completionArgs;
+
+	/**
+	 * The labels from the root to the last leaf, given to the helper.
+	 */
+	public String[] helpArgs;
+
+	/**
+	 * The label shared by one child of each node.
+	 */
+	public String lookupLabel;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		tree = new BenchmarkTree(depth, fanout);
+		command = Stubs.command("benchmark");
+		sender = Stubs.sender("console");
+		player = Stubs.player("player");
+
+		commandArgs = tree.path(fanout - 1);
+		completionArgs = Arrays.copyOf(commandArgs, depth);
+		completionArgs[depth - 1] = "node";
+
+		helpArgs = new String[depth + 1];
+		helpArgs[0] = tree.getHelper().getLabel();
+		System.arraycopy(commandArgs, 0, helpArgs, 1, depth);
+
+		lookupLabel = BenchmarkTree.label(fanout - 1);
+	}
+}
@@ -0,0 +1,21 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+/**
+ * Measures the execution of a command from the root of the tree down to a leaf.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DispatchBenchmark {
+
+	@Benchmark
+	public boolean onCommand(CommandTreeState state) {
+		return state.tree.getRoot().onCommand(state.sender, state.command, "benchmark", state.commandArgs);
+	}
+}
@@ -0,0 +1,27 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+/**
+ * Measures the rendering of the explanations by the helper, for the whole tree and for the path to a leaf.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HelpBenchmark {
+
+	@Benchmark
+	public int helpAll(CommandTreeState state) {
+		state.tree.getHelper().help(state.player, new String[0]);
+		return state.tree.getHelper().getLength();
+	}
+
+	@Benchmark
+	public boolean helpPath(CommandTreeState state) {
+		return state.tree.getRoot().onCommand(state.player, state.command, "benchmark", state.helpArgs);
+	}
+}
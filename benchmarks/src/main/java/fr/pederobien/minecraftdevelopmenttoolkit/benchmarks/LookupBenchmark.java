@@ -0,0 +1,24 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import fr.pederobien.minecraftdevelopmenttoolkit.benchmarks.BenchmarkTree.Node;
+
+/**
+ * Measures the search of all the descendants of the root that have a given label.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LookupBenchmark {
+
+	@Benchmark
+	public List<Node> getChildrenByLabelName(CommandTreeState state) {
+		return state.tree.getRoot().getChildrenByLabelName(state.lookupLabel);
+	}
+}
@@ -0,0 +1,84 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.benchmarks;
+
+import java.lang.reflect.Proxy;
+
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+/**
+ * Implementations of the server interfaces used by the command tree, so that benchmarks do not need a running server. Every method
+ * of a stub returns the default value of its return type.
+ */
+public class Stubs {
+
+	/**
+	 * @param name The name of the sender.
+	 *
+	 * @return A command sender that is not a player.
+	 */
+	public static CommandSender sender(String name) {
+		return proxy(CommandSender.class, name);
+	}
+
+	/**
+	 * @param name The name of the player.
+	 *
+	 * @return A player, needed by the helper to send explanations.
+	 */
+	public static Player player(String name) {
+		return proxy(Player.class, name);
+	}
+
+	/**
+	 * @param label The label of the command.
+	 *
+	 * @return A command that does nothing when executed.
+	 */
+	public static Command command(String label) {
+		return new Command(label) {
+			@Override
+			public boolean execute(CommandSender sender, String commandLabel, String[] args) {
+				return true;
+			}
+		};
+	}
+
+	private static <T> T proxy(Class<T> type, String name) {
+		Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (instance, method, args) -> {
+			switch (method.getName()) {
+			case "getName":
+			case "getDisplayName":
+			case "toString":
+				return name;
+			case "hashCode":
+				return System.identityHashCode(instance);
+			case "equals":
+				return instance == args[0];
+			default:
+				return defaultValue(method.getReturnType());
+			}
+		});
+		return type.cast(proxy);
+	}
+
+	private static Object defaultValue(Class<?> type) {
+		if (!type.isPrimitive() || type == void.class)
+			return null;
+		if (type == boolean.class)
+			return false;
+		if (type == char.class)
+			return '\0';
+		if (type == float.class)
+			return 0f;
+		if (type == double.class)
+			return 0d;
+		if (type == long.class)
+			return 0L;
+		if (type == byte.class)
+			return (byte) 0;
+		if (type == short.class)
+			return (short) 0;
+		return 0;
+	}
+}
@@ -0,0 +1,22 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+/**
+ * Measures the completion of the last argument of a command, that matches all the children of the deepest node.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TabCompleteBenchmark {
+
+	@Benchmark
+	public List<String> onTabComplete(CommandTreeState state) {
+		return state.tree.getRoot().onTabComplete(state.sender, state.command, "benchmark", state.completionArgs);
+	}
+}
@@ -6,18 +6,22 @@ public class ArgumentNotFoundException extends MinecraftToolkitException {
 	private static final long serialVersionUID = 1L;
 	private String label, notFoundArgument;
 	private String[] arguments;
-	private StringJoiner joiner;
 
 	public ArgumentNotFoundException(String label, String notFoundArgument, String[] arguments) {
+		this(label, notFoundArgument, arguments, true);
+	}
+
+	/**
+	 * @param label              The label of the command.
+	 * @param notFoundArgument   The not found argument.
+	 * @param arguments          The arguments given to the edition that did not find the argument.
+	 * @param writableStackTrace Whether or not the stack trace should be writable.
+	 */
+	public ArgumentNotFoundException(String label, String notFoundArgument, String[] arguments, boolean writableStackTrace) {
+		super(null, writableStackTrace);
 		this.label = label;
 		this.notFoundArgument = notFoundArgument;
 		this.arguments = arguments;
-
-		joiner = new StringJoiner(" ");
-		joiner.add("\nArgument \"" + getNotFoundArgument() + "\" not found for command : " + getLabel() + ".");
-		joiner.add("\nGiven arguments :");
-		for (String cmd : getArguments())
-			joiner.add(cmd);
 	}
 
 	/**
@@ -40,6 +44,11 @@ public class ArgumentNotFoundException extends MinecraftToolkitException {
 
 	@Override
 	public String getMessage() {
+		StringJoiner joiner = new StringJoiner(" ");
+		joiner.add("\nArgument \"" + getNotFoundArgument() + "\" not found for command : " + getLabel() + ".");
+		joiner.add("\nGiven arguments :");
+		for (String cmd : getArguments())
+			joiner.add(cmd);
 		return joiner.toString();
 	}
 }
@@ -9,6 +9,17 @@ public class EditionException extends MinecraftToolkitException {
 		this.label = label;
 	}
 
+	/**
+	 * Constructs an exception whose message is built by the subclass in {@link #getMessage()}.
+	 * 
+	 * @param label              The label of the not available edition.
+	 * @param writableStackTrace Whether or not the stack trace should be writable.
+	 */
+	protected EditionException(String label, boolean writableStackTrace) {
+		super(null, writableStackTrace);
+		this.label = label;
+	}
+
 	/**
 	 * @return The label of the not available edition.
 	 */
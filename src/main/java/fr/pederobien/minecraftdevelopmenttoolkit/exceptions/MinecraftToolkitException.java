@@ -9,4 +9,15 @@ public class MinecraftToolkitException extends RuntimeException {
 	public MinecraftToolkitException(String message) {
 		super(message);
 	}
+
+	/**
+	 * Constructs an exception whose stack trace is filled only if <code>writableStackTrace</code> is true. An exception without stack
+	 * trace is cheap to create when it is used to signal an expected failure.
+	 * 
+	 * @param message            The detail message, can be null if the subclass builds it in {@link #getMessage()}.
+	 * @param writableStackTrace Whether or not the stack trace should be writable.
+	 */
+	protected MinecraftToolkitException(String message, boolean writableStackTrace) {
+		super(message, null, true, writableStackTrace);
+	}
 }
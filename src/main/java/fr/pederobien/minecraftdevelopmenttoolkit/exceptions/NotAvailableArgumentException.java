@@ -5,7 +5,16 @@ public class NotAvailableArgumentException extends EditionException {
 	private String argument;
 
 	public NotAvailableArgumentException(String label, String argument) {
-		super(label, "The argument \"" + argument + "\" associated to the command \"" + label + "\" is not available.");
+		this(label, argument, true);
+	}
+
+	/**
+	 * @param label              The label of the command.
+	 * @param argument           The not available argument.
+	 * @param writableStackTrace Whether or not the stack trace should be writable.
+	 */
+	public NotAvailableArgumentException(String label, String argument, boolean writableStackTrace) {
+		super(label, writableStackTrace);
 		this.argument = argument;
 	}
 
@@ -15,4 +24,9 @@ public class NotAvailableArgumentException extends EditionException {
 	public String getArgument() {
 		return argument;
 	}
+
+	@Override
+	public String getMessage() {
+		return "The argument \"" + argument + "\" associated to the command \"" + getLabel() + "\" is not available.";
+	}
 }
@@ -4,6 +4,19 @@ public class NotAvailableCommandException extends EditionException {
 	private static final long serialVersionUID = 1L;
 
 	public NotAvailableCommandException(String label) {
-		super(label, "The command " + label + " is not available (yet ?)");
+		this(label, true);
+	}
+
+	/**
+	 * @param label              The label of the not available command.
+	 * @param writableStackTrace Whether or not the stack trace should be writable.
+	 */
+	public NotAvailableCommandException(String label, boolean writableStackTrace) {
+		super(label, writableStackTrace);
+	}
+
+	@Override
+	public String getMessage() {
+		return "The command " + getLabel() + " is not available (yet ?)";
 	}
 }
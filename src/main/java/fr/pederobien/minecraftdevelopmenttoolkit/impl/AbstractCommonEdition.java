@@ -3,58 +3,391 @@ package fr.pederobien.minecraftdevelopmenttoolkit.impl;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.function.Predicate;
 
 import fr.pederobien.minecraftdevelopmenttoolkit.exceptions.BooleanParseException;
+import fr.pederobien.minecraftdevelopmenttoolkit.interfaces.IAvailableEdition;
 import fr.pederobien.minecraftdevelopmenttoolkit.interfaces.ICommonEdition;
 import fr.pederobien.minecraftdevelopmenttoolkit.interfaces.IGenericEdition;
+import fr.pederobien.minecraftdevelopmenttoolkit.utils.ParseHelper;
 
 public abstract class AbstractCommonEdition<T, U extends IGenericEdition<T>, V> extends AbstractGenericEdition<T> implements ICommonEdition<T, U, V> {
-	private boolean isAvailable, isModifiable;
-	private Map<String, U> editions;
+	private static final MethodOverride GET_INT = new MethodOverride(AbstractCommonEdition.class, "getInt", String.class);
+	private static final MethodOverride GET_DOUBLE = new MethodOverride(AbstractCommonEdition.class, "getDouble", String.class);
+	private static final MethodOverride GET_TIME = new MethodOverride(AbstractCommonEdition.class, "getTime", String.class);
+	private static final AbstractCommonEdition<?, ?, ?>[] NO_OWNERS = new AbstractCommonEdition<?, ?, ?>[0];
+	private volatile boolean isAvailable, isModifiable, isConcurrent;
+	private volatile Map<String, U> editions, childrenView;
+	private volatile Versioned<List<U>> sortedChildren;
+	private volatile Versioned<List<String>> availableLabels;
+	private volatile int structureVersion;
+	private volatile long treeVersion;
+	private volatile AbstractCommonEdition<?, ?, ?>[] owners;
+	private volatile CompletionMode completionMode;
+	private volatile Versioned<LabelIndex<U>> labelIndex;
+	private volatile AvailabilityIndex availabilityIndex;
+	private volatile int availabilityPosition;
 
 	public AbstractCommonEdition(String label, T explanation) {
 		super(label, explanation);
 		editions = new HashMap<String, U>();
+		childrenView = Collections.unmodifiableMap(editions);
 		isAvailable = true;
 		isModifiable = true;
+		completionMode = CompletionMode.PREFIX;
+		owners = NO_OWNERS;
 	}
 
 	@Override
 	public Map<String, U> getChildren() {
-		return Collections.unmodifiableMap(editions);
+		return childrenView;
 	}
 
 	@Override
 	public boolean isAvailable() {
-		return isAvailable;
+		AvailabilityIndex index = availabilityIndex;
+		return index == null ? isAvailable : index.isAvailable(availabilityPosition);
 	}
 
 	@Override
 	public boolean isModifiable() {
-		return isModifiable;
+		AvailabilityIndex index = availabilityIndex;
+		return index == null ? isModifiable : index.isModifiable(availabilityPosition);
 	}
 
 	protected void internalSetAvailable(boolean available) {
-		if (!isModifiable)
+		if (!isModifiable())
 			return;
-		this.isAvailable = available;
+		AvailabilityIndex index = availabilityIndex;
+		if (index == null)
+			this.isAvailable = available;
+		else
+			index.setAvailable(availabilityPosition, available);
+		incrementTreeVersion();
 	}
 
 	protected void internalSetModifiable(boolean modifiable) {
-		this.isModifiable = modifiable;
+		AvailabilityIndex index = availabilityIndex;
+		if (index == null)
+			this.isModifiable = modifiable;
+		else
+			index.setModifiable(availabilityPosition, modifiable);
+	}
+
+	/**
+	 * @return The availability of this edition regardless of its ancestors. When this edition is registered in an availability index,
+	 *         it is one bit test, otherwise it is the same as {@link #isAvailable()}.
+	 */
+	boolean isOwnAvailable() {
+		AvailabilityIndex index = availabilityIndex;
+		return index == null ? isAvailable() : index.isOwnAvailable(availabilityPosition);
+	}
+
+	/**
+	 * @return True if the availability of this edition is stored in an {@link AvailabilityIndex}.
+	 */
+	boolean isIndexed() {
+		return availabilityIndex != null;
+	}
+
+	/**
+	 * Registers this edition in the given availability index.
+	 * 
+	 * @param index    The index that stores the availability of this edition.
+	 * @param position The position of this edition in the index.
+	 */
+	void attach(AvailabilityIndex index, int position) {
+		// The position is written first, so that a thread that sees the index also sees the position in this index.
+		availabilityPosition = position;
+		availabilityIndex = index;
+	}
+
+	/**
+	 * @return The availability index that stores the availability of this edition, or null.
+	 */
+	AvailabilityIndex getAvailabilityIndex() {
+		return availabilityIndex;
+	}
+
+	/**
+	 * @return The position of this edition in its availability index.
+	 */
+	int getAvailabilityPosition() {
+		return availabilityPosition;
+	}
+
+	/**
+	 * Unregisters this edition from its availability index.
+	 * 
+	 * @param available  The availability of this edition once detached.
+	 * @param modifiable The modifiability of this edition once detached.
+	 */
+	void detach(boolean available, boolean modifiable) {
+		// The state is written first, so that a thread that no longer sees the index sees the state of this edition.
+		isAvailable = available;
+		isModifiable = modifiable;
+		availabilityIndex = null;
+	}
+
+	/**
+	 * Test the availability of a child whose ancestors are known to be available, typically while going down the tree. When the child
+	 * is registered in an availability index, it is one bit test.
+	 * 
+	 * @param edition The edition to test.
+	 * 
+	 * @return True if the given edition is available.
+	 */
+	static boolean isAvailableChild(IAvailableEdition<?> edition) {
+		return edition instanceof AbstractCommonEdition<?, ?, ?> ? ((AbstractCommonEdition<?, ?, ?>) edition).isOwnAvailable() : edition.isAvailable();
 	}
 
 	protected void internalAdd(U elt) {
-		editions.put(elt.getLabel(), elt);
+		U previous;
+		if (isConcurrent) {
+			if (elt instanceof AbstractCommonEdition<?, ?, ?>)
+				((AbstractCommonEdition<?, ?, ?>) elt).setConcurrent(true);
+			Map<String, U> copy = copyChildren();
+			previous = copy.put(elt.getLabel(), elt);
+			publishChildren(copy);
+		} else
+			previous = editions.put(elt.getLabel(), elt);
+
+		if (previous != elt) {
+			removeOwner(previous);
+			if (elt instanceof AbstractCommonEdition<?, ?, ?>)
+				((AbstractCommonEdition<?, ?, ?>) elt).addOwner(this);
+		}
+
+		// Incremented once the children are published, the caches computed from the previous children are out of date.
+		structureVersion++;
+		incrementTreeVersion();
+		if (availabilityIndex != null && previous != elt) {
+			if (previous != null)
+				availabilityIndex.remove(previous);
+			availabilityIndex.add(this, elt);
+		}
 	}
 
 	protected void internalRemove(U elt) {
-		editions.remove(elt.getLabel());
+		U removed;
+		if (isConcurrent) {
+			Map<String, U> copy = copyChildren();
+			removed = copy.remove(elt.getLabel());
+			publishChildren(copy);
+		} else
+			removed = editions.remove(elt.getLabel());
+
+		removeOwner(removed);
+		structureVersion++;
+		incrementTreeVersion();
+		if (availabilityIndex != null && removed != null)
+			availabilityIndex.remove(removed);
+	}
+
+	/**
+	 * Set the structure used to store the children of this edition. When sorted, the children are stored in a {@link TreeMap}, so that
+	 * {@link #getChildren()} returns them in alphabetical order of their label and adding or removing a child keeps them sorted.
+	 * 
+	 * @param sorted True to store the children sorted by label, false to store them in a {@link HashMap}.
+	 */
+	protected void setSortedChildren(boolean sorted) {
+		if (sorted == isSortedChildren())
+			return;
+		publishChildren(sorted ? new TreeMap<String, U>(editions) : new HashMap<String, U>(editions));
+		structureVersion++;
+	}
+
+	/**
+	 * @return True if the children of this edition are stored sorted by label.
+	 */
+	protected boolean isSortedChildren() {
+		return editions instanceof TreeMap;
+	}
+
+	/**
+	 * Get the children of this edition in alphabetical order of their label. The list is computed once and kept until a child is added
+	 * or removed.
+	 * 
+	 * @return An unmodifiable list of the children of this edition.
+	 */
+	protected List<U> getSortedChildren() {
+		int version = structureVersion;
+		Versioned<List<U>> sorted = sortedChildren;
+		if (sorted == null || sorted.version != version) {
+			Map<String, U> children = editions;
+			List<U> list = new ArrayList<U>(children.values());
+			if (!(children instanceof TreeMap))
+				list.sort((first, second) -> first.getLabel().compareTo(second.getLabel()));
+			sortedChildren = sorted = new Versioned<List<U>>(version, Collections.unmodifiableList(list));
+		}
+		return sorted.value;
+	}
+
+	/**
+	 * Get the labels of the available children of this edition in alphabetical order. The list is computed once and kept until a child
+	 * is added, removed or its availability changes.
+	 * 
+	 * @return An unmodifiable list of the labels of the available children of this edition.
+	 */
+	protected List<String> getAvailableLabels() {
+		// In an availability index, no child is available when this edition is not, whatever their own availability.
+		if (availabilityIndex != null && !isAvailable())
+			return Collections.emptyList();
+
+		long version = treeVersion;
+		Versioned<List<String>> labels = availableLabels;
+		if (labels == null || labels.version != version) {
+			List<String> list = new ArrayList<String>();
+			for (U edition : getSortedChildren())
+				if (!(edition instanceof IAvailableEdition<?>) || isAvailableChild((IAvailableEdition<?>) edition))
+					list.add(edition.getLabel());
+			availableLabels = labels = new Versioned<List<String>>(version, Collections.unmodifiableList(list));
+		}
+		return labels.value;
+	}
+
+	/**
+	 * @return The way the labels of the children of this edition are matched with the argument a player is typing.
+	 */
+	protected CompletionMode getCompletionMode() {
+		return completionMode;
+	}
+
+	/**
+	 * Set the way the labels of the children of this edition are matched with the argument a player is typing. By default, a label is
+	 * proposed if it starts with the argument. Use {@link CompletionMode#SUBSTRING} to propose the labels that contain the argument.
+	 * 
+	 * @param completionMode The new completion mode.
+	 */
+	protected void setCompletionMode(CompletionMode completionMode) {
+		this.completionMode = completionMode;
+	}
+
+	/**
+	 * Get the labels of the children of this edition matched by the given argument according to the completion mode of this edition.
+	 * The labels are stored in an index rebuilt only when a child is added or removed.
+	 * 
+	 * @param arg    The argument a player is typing.
+	 * @param filter The condition a child should verify to be proposed.
+	 * 
+	 * @return A list of labels in alphabetical order.
+	 * 
+	 * @see #setCompletionMode(CompletionMode)
+	 */
+	protected List<String> complete(String arg, Predicate<? super U> filter) {
+		return getLabelIndex().complete(arg, filter);
+	}
+
+	/**
+	 * @param label The label to test.
+	 * @param arg   The argument a player is typing.
+	 * 
+	 * @return True if the given label is matched by the argument according to the completion mode of this edition.
+	 */
+	protected boolean matches(String label, String arg) {
+		return getLabelIndex().matches(label, arg);
+	}
+
+	/**
+	 * @return A counter incremented each time a child is added to or removed from this edition or one of its descendants, or each time
+	 *         the availability of this edition or of one of its descendants is set. It is used to detect that a cache computed from the
+	 *         tree below this edition, like the pages of a helper, is out of date. Modifications of other trees do not change it.
+	 */
+	long getTreeVersion() {
+		return treeVersion;
+	}
+
+	/**
+	 * @return A counter incremented each time a child is added to or removed from this edition. It is used to detect that a structure
+	 *         compiled from this edition, like a dispatch trie, is out of date.
+	 */
+	int getStructureVersion() {
+		return structureVersion;
+	}
+
+	/**
+	 * Set the concurrent mode of this edition and of all its descendants. In concurrent mode, adding or removing a child publishes a
+	 * new copy of the children of this edition, so that the children can be read from any thread while the tree is modified, for
+	 * example to complete a command asynchronously. The tree should still be modified by one thread at a time. Children added to a
+	 * concurrent edition become concurrent.
+	 * 
+	 * @param concurrent True to enable the concurrent mode, false to disable it.
+	 */
+	protected void setConcurrent(boolean concurrent) {
+		isConcurrent = concurrent;
+		for (U edition : getChildren().values())
+			if (edition instanceof AbstractCommonEdition<?, ?, ?>)
+				((AbstractCommonEdition<?, ?, ?>) edition).setConcurrent(concurrent);
+	}
+
+	/**
+	 * @return True if the children of this edition are published as immutable copies.
+	 */
+	protected boolean isConcurrent() {
+		return isConcurrent;
+	}
+
+	/**
+	 * Increments the tree version of this edition and of all the editions this edition has been added to, up to the roots.
+	 */
+	private void incrementTreeVersion() {
+		treeVersion++;
+		for (AbstractCommonEdition<?, ?, ?> owner : owners)
+			owner.incrementTreeVersion();
+	}
+
+	private void addOwner(AbstractCommonEdition<?, ?, ?> owner) {
+		AbstractCommonEdition<?, ?, ?>[] current = owners;
+		for (AbstractCommonEdition<?, ?, ?> edition : current)
+			if (edition == owner)
+				return;
+		AbstractCommonEdition<?, ?, ?>[] updated = Arrays.copyOf(current, current.length + 1);
+		updated[current.length] = owner;
+		owners = updated;
+	}
+
+	private void removeOwner(Object child) {
+		if (!(child instanceof AbstractCommonEdition<?, ?, ?>))
+			return;
+
+		AbstractCommonEdition<?, ?, ?> edition = (AbstractCommonEdition<?, ?, ?>) child;
+		AbstractCommonEdition<?, ?, ?>[] current = edition.owners;
+		for (int i = 0; i < current.length; i++)
+			if (current[i] == this) {
+				AbstractCommonEdition<?, ?, ?>[] updated = current.length == 1 ? NO_OWNERS : new AbstractCommonEdition<?, ?, ?>[current.length - 1];
+				System.arraycopy(current, 0, updated, 0, i);
+				System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+				edition.owners = updated;
+				return;
+			}
+	}
+
+	private Map<String, U> copyChildren() {
+		return editions instanceof TreeMap ? new TreeMap<String, U>(editions) : new HashMap<String, U>(editions);
+	}
+
+	private void publishChildren(Map<String, U> children) {
+		editions = children;
+		childrenView = Collections.unmodifiableMap(children);
+	}
+
+	private LabelIndex<U> getLabelIndex() {
+		// The version is read before the children : an index built from newer children is rebuilt once more, never kept out of date.
+		int version = structureVersion;
+		CompletionMode mode = completionMode;
+		Versioned<LabelIndex<U>> index = labelIndex;
+		if (index == null || index.version != version || index.value.getMode() != mode)
+			labelIndex = index = new Versioned<LabelIndex<U>>(version, new LabelIndex<U>(editions.values(), mode));
+		return index.value;
 	}
 
 	/**
@@ -80,6 +413,10 @@ public abstract class AbstractCommonEdition<T, U extends IGenericEdition<T>, V>
 	 * @return True if the given string contains a parsable integer false otherwise.
 	 */
 	protected boolean isStrictInt(String number) {
+		// The parser is not overridden, the string is checked without throwing an exception
+		if (!GET_INT.isOverriddenBy(this))
+			return ParseHelper.isInt(number);
+
 		try {
 			getInt(number);
 		} catch (NumberFormatException e) {
@@ -117,6 +454,11 @@ public abstract class AbstractCommonEdition<T, U extends IGenericEdition<T>, V>
 	 * @see java.lang.Double#valueOf(String)
 	 */
 	protected boolean isStrictDouble(String number) {
+		if (number == null)
+			throw new NullPointerException();
+		if (!GET_DOUBLE.isOverriddenBy(this))
+			return ParseHelper.isDouble(number);
+
 		try {
 			getDouble(number);
 		} catch (NumberFormatException e) {
@@ -146,6 +488,9 @@ public abstract class AbstractCommonEdition<T, U extends IGenericEdition<T>, V>
 	 * @return True if the given string contains a parsable time, false otherwise.
 	 */
 	protected boolean isStrictTime(String time) {
+		if (!GET_TIME.isOverriddenBy(this))
+			return ParseHelper.isTime(Objects.requireNonNull(time, "text"));
+
 		try {
 			getTime(time);
 			return true;
@@ -177,6 +522,9 @@ public abstract class AbstractCommonEdition<T, U extends IGenericEdition<T>, V>
 	 * @return True if the given string contains a parsable time, false otherwise.
 	 */
 	protected boolean isStrictTime(String time, DateTimeFormatter formatter) {
+		if (formatter == DateTimeFormatter.ISO_LOCAL_TIME)
+			return ParseHelper.isTime(Objects.requireNonNull(time, "text"));
+
 		try {
 			LocalTime.parse(time, formatter);
 			return true;
@@ -246,11 +594,18 @@ public abstract class AbstractCommonEdition<T, U extends IGenericEdition<T>, V>
 	 *                               {@code "false"}.
 	 */
 	protected boolean getBoolean(String bool) {
-		if (bool.equalsIgnoreCase("true"))
-			return true;
-		if (bool.equalsIgnoreCase("false"))
-			return false;
-		throw new BooleanParseException(bool);
+		return ParseHelper.parseBoolean(bool, 0, bool.length());
+	}
+
+	/**
+	 * Checks if the string argument can be parsed as a boolean, in order to call {@link #getBoolean(String)} without having to catch
+	 * a {@link BooleanParseException}.
+	 *
+	 * @param bool the {@code String} containing the boolean representation to check.
+	 * @return True if the string argument equals, ignoring case, to {@code "true"} or {@code "false"}, false otherwise.
+	 */
+	protected boolean isStrictBoolean(String bool) {
+		return ParseHelper.isBoolean(bool);
 	}
 
 	/**
@@ -318,4 +673,14 @@ public abstract class AbstractCommonEdition<T, U extends IGenericEdition<T>, V>
 	protected String concat(List<String> strings) {
 		return concat(strings, ", ");
 	}
+
+	private static class Versioned<S> {
+		private final long version;
+		private final S value;
+
+		private Versioned(long version, S value) {
+			this.version = version;
+			this.value = value;
+		}
+	}
 }
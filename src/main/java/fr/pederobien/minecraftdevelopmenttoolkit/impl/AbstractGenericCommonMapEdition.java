@@ -1,91 +1,242 @@
 package fr.pederobien.minecraftdevelopmenttoolkit.impl;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
 
-import fr.pederobien.minecraftdevelopmenttoolkit.exceptions.ArgumentNotFoundException;
-import fr.pederobien.minecraftdevelopmenttoolkit.exceptions.NotAvailableArgumentException;
 import fr.pederobien.minecraftdevelopmenttoolkit.interfaces.IGenericCommonMapEdition;
+import fr.pederobien.minecraftdevelopmenttoolkit.interfaces.IGenericEdition;
+import fr.pederobien.minecraftdevelopmenttoolkit.utils.Arguments;
 
 public abstract class AbstractGenericCommonMapEdition<T, U extends IGenericCommonMapEdition<T, U>> extends AbstractCommonEdition<T, U, U>
 		implements IGenericCommonMapEdition<T, U> {
-	private List<U> descendants;
+	private static final MethodOverride ARRAY_TAB_COMPLETE = new MethodOverride(AbstractGenericCommonMapEdition.class, "onTabComplete", CommandSender.class,
+			Command.class, String.class, String[].class);
+	private static final MethodOverride VIEW_TAB_COMPLETE = new MethodOverride(AbstractGenericCommonMapEdition.class, "onTabComplete", CommandSender.class,
+			Command.class, String.class, Arguments.class);
+	private static final MethodOverride ARRAY_COMMAND = new MethodOverride(AbstractGenericCommonMapEdition.class, "onCommand", CommandSender.class, Command.class,
+			String.class, String[].class);
+	private static final MethodOverride VIEW_COMMAND = new MethodOverride(AbstractGenericCommonMapEdition.class, "onCommand", CommandSender.class, Command.class,
+			String.class, Arguments.class);
+	private DescendantRegistry<U> descendants;
+	private ArgumentSchema schema;
 
 	public AbstractGenericCommonMapEdition(String label, T explanation) {
 		super(label, explanation);
-		descendants = new ArrayList<U>();
+		descendants = new DescendantRegistry<U>();
 	}
 
 	@Override
 	public List<U> getChildrenByLabelName(String labelName) {
-		return descendants.stream().filter(edition -> edition.getLabel().equals(labelName)).collect(Collectors.toList());
+		return descendants.get(labelName);
 	}
 
+	/**
+	 * Calls {@link #onTabComplete(CommandSender, Command, String, Arguments)}. Editions written before the view overloads existed may
+	 * override only this method: the toolkit then calls it instead of the view overload when it forwards a completion to them.
+	 */
 	@Override
 	public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
+		return onTabComplete(sender, command, alias, Arguments.of(args));
+	}
+
+	/**
+	 * If not overridden, forwards the completion to the child edition associated to the first argument, or completes the arguments
+	 * of the schema if this edition has a schema and no children.
+	 */
+	@Override
+	public List<String> onTabComplete(CommandSender sender, Command command, String alias, Arguments args) {
+		if (schema != null && getChildren().isEmpty())
+			return schema.complete(sender, args);
+
 		try {
-			U edition = getChildren().get(args[0]);
+			U edition = getChildren().get(args.get(0));
 
 			// Edition not recognized, display all available children editions.
 			if (edition == null)
-				return filter(getChildren().values().stream().filter(e -> e.isAvailable()).map(e -> e.getLabel()), args[0]);
+				return complete(args.get(0), e -> isAvailableChild(e));
 
 			// Return an empty list if there are no edition corresponding to the given args[0] parameter.
-			if (!edition.isAvailable())
+			if (!isAvailableChild(edition))
 				return emptyList();
 
-			return edition.onTabComplete(sender, command, alias, extract(args, 1));
+			return tabCompleteWith(edition, sender, command, alias, args.from(1));
 		} catch (IndexOutOfBoundsException e) {
 			// When args is empty -> args[0] throw an IndexOutOfBoundsException
 			return emptyList();
 		}
 	}
 
+	/**
+	 * Calls {@link #onCommand(CommandSender, Command, String, Arguments)}. Editions written before the view overloads existed may
+	 * override only this method: the toolkit then calls it instead of the view overload when it forwards a command to them.
+	 */
 	@Override
 	public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
-		String editionLabel = args[0];
+		return onCommand(sender, command, label, Arguments.of(args));
+	}
+
+	/**
+	 * If not overridden, forwards the command to the child edition associated to the first argument.
+	 */
+	@Override
+	public boolean onCommand(CommandSender sender, Command command, String label, Arguments args) {
+		DispatchResult result = dispatch(sender, command, label, args);
+		if (!result.isSuccess())
+			throw result.toException(true);
+		return true;
+	}
+
+	/**
+	 * Forwards the command to the child edition associated to the first argument, like {@link #onCommand(CommandSender, Command, String, Arguments)}
+	 * does if not overridden, but a missing or not available argument is returned as a result instead of being thrown.
+	 * 
+	 * @param sender  Source of the command.
+	 * @param command Command which was executed.
+	 * @param label   Alias of the command which was used.
+	 * @param args    Passed command arguments.
+	 * 
+	 * @return The result of the dispatch.
+	 */
+	public DispatchResult dispatch(CommandSender sender, Command command, String label, Arguments args) {
+		String editionLabel = args.get(0);
 		U edition = getChildren().get(editionLabel);
 
 		if (edition == null)
-			throw new ArgumentNotFoundException(label, editionLabel, args);
+			return DispatchResult.argumentNotFound(label, editionLabel, args);
 
 		if (!edition.isAvailable())
-			throw new NotAvailableArgumentException(command.getLabel(), editionLabel);
+			return DispatchResult.argumentNotAvailable(command.getLabel(), editionLabel);
 
-		edition.onCommand(sender, command, label, extract(args, 1));
-		return true;
+		DispatchResult result = dispatchTo(edition, sender, command, label, args.from(1));
+		return result.isSuccess() ? DispatchResult.success(true) : result;
+	}
+
+	/**
+	 * @return True if the method <code>onCommand</code> of this edition is not overridden, in other words if this edition only
+	 *         forwards the command to one of its children.
+	 */
+	boolean isDefaultDispatcher() {
+		return !ARRAY_COMMAND.isOverriddenBy(this) && !VIEW_COMMAND.isOverriddenBy(this);
+	}
+
+	/**
+	 * Executes the command on the given edition. If the edition only forwards the command to its children, the command is dispatched
+	 * without exception. If the edition only overrides the method <code>onCommand</code> that takes an array, this method is called
+	 * with a copy of the arguments.
+	 * 
+	 * @param edition The edition that executes the command.
+	 * @param sender  Source of the command.
+	 * @param command Command which was executed.
+	 * @param label   Alias of the command which was used.
+	 * @param args    The arguments for the given edition.
+	 * 
+	 * @return The result of the dispatch.
+	 */
+	static DispatchResult dispatchTo(IGenericCommonMapEdition<?, ?> edition, CommandSender sender, Command command, String label, Arguments args) {
+		if (edition instanceof AbstractGenericCommonMapEdition<?, ?> && ((AbstractGenericCommonMapEdition<?, ?>) edition).isDefaultDispatcher())
+			return ((AbstractGenericCommonMapEdition<?, ?>) edition).dispatch(sender, command, label, args);
+		if (edition instanceof AbstractGenericCommonMapEdition<?, ?> && ((AbstractGenericCommonMapEdition<?, ?>) edition).isArrayOnly(ARRAY_COMMAND, VIEW_COMMAND))
+			return DispatchResult.success(edition.onCommand(sender, command, label, args.toArray()));
+		return DispatchResult.success(edition.onCommand(sender, command, label, args));
+	}
+
+	/**
+	 * Gets the completion of the given edition. If the edition only overrides the method <code>onTabComplete</code> that takes an
+	 * array, this method is called with a copy of the arguments.
+	 * 
+	 * @param edition The edition that completes the arguments.
+	 * @param sender  Source of the completion.
+	 * @param command Command which was executed.
+	 * @param alias   The alias used.
+	 * @param args    The arguments for the given edition.
+	 * 
+	 * @return A list of possible completions for the final argument.
+	 */
+	static List<String> tabCompleteWith(IGenericEdition<?> edition, CommandSender sender, Command command, String alias, Arguments args) {
+		if (edition instanceof AbstractGenericCommonMapEdition<?, ?> && ((AbstractGenericCommonMapEdition<?, ?>) edition).isArrayOnly(ARRAY_TAB_COMPLETE, VIEW_TAB_COMPLETE))
+			return edition.onTabComplete(sender, command, alias, args.toArray());
+		return edition.onTabComplete(sender, command, alias, args);
+	}
+
+	/**
+	 * @return True if this edition overrides the method that takes an array but not the method that takes a view.
+	 */
+	private boolean isArrayOnly(MethodOverride array, MethodOverride view) {
+		return array.isOverriddenBy(this) && !view.isOverriddenBy(this);
+	}
+
+	/**
+	 * Set the arguments expected by this edition. If this edition has no children, its completion is given by the schema.
+	 * 
+	 * @param schema The schema of the arguments of this edition, or null to remove it.
+	 */
+	protected void setArgumentSchema(ArgumentSchema schema) {
+		this.schema = schema;
+	}
+
+	/**
+	 * @return The schema of the arguments of this edition, or null if not defined.
+	 */
+	protected ArgumentSchema getArgumentSchema() {
+		return schema;
+	}
+
+	/**
+	 * Converts the given arguments according to the schema of this edition. The arguments converted for the last completion of the
+	 * sender are reused.
+	 * 
+	 * @param sender The source of the command.
+	 * @param args   The arguments of the command.
+	 * 
+	 * @return The converted arguments.
+	 * 
+	 * @throws IllegalStateException If this edition has no schema.
+	 */
+	protected ParsedArguments parseArguments(CommandSender sender, Arguments args) {
+		if (schema == null)
+			throw new IllegalStateException("The edition " + getLabel() + " has no argument schema");
+		return schema.parse(sender, args);
+	}
+
+	/**
+	 * Converts the given arguments according to the schema of this edition.
+	 * 
+	 * @param sender The source of the command.
+	 * @param args   The arguments of the command.
+	 * 
+	 * @return The converted arguments.
+	 * 
+	 * @throws IllegalStateException If this edition has no schema.
+	 * 
+	 * @see #parseArguments(CommandSender, Arguments)
+	 */
+	protected ParsedArguments parseArguments(CommandSender sender, String[] args) {
+		return parseArguments(sender, Arguments.of(args));
 	}
 
 	protected void internalSetAvailable(boolean available) {
 		super.internalSetAvailable(available);
-		if (isModifiable())
+		// With an availability index, children are not available as long as this edition is not available.
+		if (isModifiable() && !isIndexed())
 			for (U edition : getChildren().values())
 				edition.setAvailable(available);
 	}
 
+	@Override
+	protected void setConcurrent(boolean concurrent) {
+		super.setConcurrent(concurrent);
+		descendants.setConcurrent(concurrent);
+	}
+
 	protected void internalAdd(U elt) {
 		super.internalAdd(elt);
-		internalAddToDescendants(elt);
+		descendants.add(elt);
 	}
 
 	protected void internalRemove(U elt) {
 		super.internalRemove(elt);
-		internalRemoveFromDescendants(elt);
-	}
-
-	private void internalAddToDescendants(U elt) {
-		for (U element : elt.getChildren().values())
-			internalAddToDescendants(element);
-		descendants.add(elt);
-	}
-
-	private void internalRemoveFromDescendants(U elt) {
-		for (U element : elt.getChildren().values())
-			internalRemoveFromDescendants(element);
 		descendants.remove(elt);
 	}
 }
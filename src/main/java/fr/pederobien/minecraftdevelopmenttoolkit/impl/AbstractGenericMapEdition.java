@@ -1,5 +1,7 @@
 package fr.pederobien.minecraftdevelopmenttoolkit.impl;
 
+import java.util.List;
+
 import fr.pederobien.minecraftdevelopmenttoolkit.interfaces.IGenericMapEdition;
 import fr.pederobien.minecraftdevelopmenttoolkit.interfaces.IManagedEdition;
 import fr.pederobien.minecraftdevelopmenttoolkit.interfaces.INodeEdition;
@@ -51,10 +53,10 @@ public abstract class AbstractGenericMapEdition<T, U, V extends IManagedEdition<
 	 * @param labels An array to find different parent's descendants.
 	 * 
 	 * @see AbstractMapPersistenceEdition#setAvailableEdition(String)
+	 * @see #availability()
 	 */
 	protected void setAvailableEditions(String... labels) {
-		for (String label : labels)
-			setAvailableEdition(label);
+		availability().enable(labels).commit();
 	}
 
 	/**
@@ -75,9 +77,34 @@ public abstract class AbstractGenericMapEdition<T, U, V extends IManagedEdition<
 	 * @param labels An array to find different parent's descendants.
 	 * 
 	 * @see AbstractMapPersistenceEdition#setAvailableEdition(String)
+	 * @see #availability()
 	 */
 	protected void setNotAvailableEditions(String... labels) {
-		for (String label : labels)
-			setNotAvailableEdition(label);
+		availability().disable(labels).commit();
+	}
+
+	/**
+	 * Creates a transaction to change the availability of several descendants of the parent. Intents on the same label are merged,
+	 * only the last intent of each label is applied and {@link #onAvailabilityChanged(List)} is called once. For example :
+	 * <code>availability().enable("start", "stop").disable("configure").commit();</code>
+	 * 
+	 * @return A new availability transaction.
+	 * 
+	 * @see AvailabilityTransaction
+	 */
+	protected AvailabilityTransaction<W> availability() {
+		return new AvailabilityTransaction<W>(label -> getParent().getChildrenByLabelName(label), changed -> onAvailabilityChanged(changed));
+	}
+
+	/**
+	 * Method called once when an availability transaction created by this edition has been committed and the availability of at least
+	 * one edition changed. If not overridden, this method does nothing.
+	 * 
+	 * @param changed The list of editions whose availability changed.
+	 * 
+	 * @see #availability()
+	 */
+	protected void onAvailabilityChanged(List<W> changed) {
+
 	}
 }
@@ -1,9 +1,6 @@
 package fr.pederobien.minecraftdevelopmenttoolkit.impl;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
@@ -15,38 +12,47 @@ import fr.pederobien.minecraftdevelopmenttoolkit.exceptions.NotAvailableCommandE
 import fr.pederobien.minecraftdevelopmenttoolkit.interfaces.IGenericMapEdition;
 import fr.pederobien.minecraftdevelopmenttoolkit.interfaces.IGenericParentEdition;
 import fr.pederobien.minecraftdevelopmenttoolkit.interfaces.IHelper;
+import fr.pederobien.minecraftdevelopmenttoolkit.utils.Arguments;
 
 public abstract class AbstractGenericParentEdition<T, U, V extends IGenericParentEdition<T, U, V, W>, W extends IGenericMapEdition<T, U, V, W>>
 		extends AbstractCommonEdition<T, W, V> implements IGenericParentEdition<T, U, V, W> {
 	private IHelper<T, U, V, W> helper;
-	private List<W> descendants;
+	private DescendantRegistry<W> descendants;
+	private CommandDispatchTrie<T, W> trie;
 
 	public AbstractGenericParentEdition(String label, T explanation, IHelper<T, U, V, W> helper) {
 		super(label, explanation);
 		setHelper(helper);
-		descendants = new ArrayList<W>();
+		descendants = new DescendantRegistry<W>();
+		trie = new CommandDispatchTrie<T, W>();
 	}
 
 	@Override
 	public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
+		return onTabComplete(sender, command, alias, Arguments.of(args));
+	}
+
+	@Override
+	public List<String> onTabComplete(CommandSender sender, Command command, String alias, Arguments args) {
 		if (!isAvailable())
 			return emptyList();
 		else {
 			try {
-				String label = args[0];
+				String label = args.get(0);
 				W edition = getChildren().get(label);
 
 				// If the edition is available then execute its method onTabComplete otherwise return an empty list of String.
 				if (edition != null)
-					return edition.isAvailable() ? edition.onTabComplete(sender, command, alias, extract(args, 1)) : emptyList();
+					return isAvailableChild(edition) ? AbstractGenericCommonMapEdition.tabCompleteWith(edition, sender, command, alias, args.from(1)) : emptyList();
 
 				// If the label correspond to "help" then execute its method onTabComplete.
 				if (label.equals(helper.getLabel()))
-					return helper.onTabComplete(sender, command, alias, extract(args, 1));
+					return AbstractHelper.tabCompleteWith(helper, sender, command, alias, args.from(1));
 
-				Stream<String> availableLabels = getChildren().values().stream().filter(e -> e.isAvailable()).map(e -> e.getLabel());
-				Stream<String> labels = Stream.concat(Stream.of(helper.getLabel()), availableLabels);
-				return filter(labels, label);
+				List<String> labels = complete(label, e -> isAvailableChild(e));
+				if (matches(helper.getLabel(), label))
+					labels.add(0, helper.getLabel());
+				return labels;
 			} catch (IndexOutOfBoundsException e) {
 				return emptyList();
 			}
@@ -54,31 +60,54 @@ public abstract class AbstractGenericParentEdition<T, U, V extends IGenericParen
 	}
 
 	/**
-	 * @throws CommandNotFoundException If the command to execute has not been found
+	 * @throws ArgumentNotFoundException     If an argument does not correspond to any edition.
+	 * @throws NotAvailableArgumentException If the edition associated to an argument is not available.
+	 * @throws NotAvailableCommandException  If this edition is not available.
 	 */
 	@Override
 	public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
-		String first = "";
+		return onCommand(sender, command, label, Arguments.of(args));
+	}
+
+	/**
+	 * @throws ArgumentNotFoundException     If an argument does not correspond to any edition.
+	 * @throws NotAvailableArgumentException If the edition associated to an argument is not available.
+	 * @throws NotAvailableCommandException  If this edition is not available.
+	 */
+	@Override
+	public boolean onCommand(CommandSender sender, Command command, String label, Arguments args) {
+		DispatchResult result = dispatch(sender, command, label, args);
+		if (!result.isSuccess())
+			throw result.toException(true);
+		return result.getValue();
+	}
+
+	/**
+	 * Executes the command like {@link #onCommand(CommandSender, Command, String, Arguments)} but a missing or not available argument,
+	 * or this edition being not available, is returned as a result instead of being thrown. No exception is created when the command
+	 * fails, which makes this method suitable for commands often misused by players.
+	 * 
+	 * @param sender  Source of the command.
+	 * @param command Command which was executed.
+	 * @param label   Alias of the command which was used.
+	 * @param args    Passed command arguments.
+	 * 
+	 * @return The result of the dispatch.
+	 */
+	public DispatchResult dispatch(CommandSender sender, Command command, String label, Arguments args) {
 		if (!isAvailable())
-			throw new NotAvailableCommandException(command.getLabel());
+			return DispatchResult.commandNotAvailable(command.getLabel());
 
 		// If the label correspond to "help" then execute its method help.
-		first = args[0];
+		String first = args.get(0);
 		if (first.equals(helper.getLabel())) {
 			if (sender instanceof Player)
-				helper.help(sender, extract(args, 1));
-			return true;
+				AbstractHelper.helpWith(helper, sender, args.from(1));
+			return DispatchResult.success(true);
 		}
 
-		// If the edition is available then execute its method onCommand.
-		W edition = getChildren().get(first);
-		if (edition == null)
-			throw new ArgumentNotFoundException(label, first, args);
-
-		if (!edition.isAvailable())
-			throw new NotAvailableArgumentException(command.getLabel(), edition.getLabel());
-
-		return edition.onCommand(sender, command, label, extract(args, 1));
+		// Find the edition that should execute the command and execute its method onCommand.
+		return trie.dispatch(sender, command, label, args);
 	}
 
 	@Override
@@ -90,35 +119,64 @@ public abstract class AbstractGenericParentEdition<T, U, V extends IGenericParen
 
 	@Override
 	public List<W> getChildrenByLabelName(String labelName) {
-		return descendants.stream().filter(edition -> edition.getLabel().equals(labelName)).collect(Collectors.toList());
+		return descendants.get(labelName);
+	}
+
+	/**
+	 * Enable or disable the availability index of this tree. When enabled, each edition of the tree gets a position in bit sets that
+	 * store its own availability, its effective availability and its modifiability, and an edition is available only if it and all
+	 * its ancestors are available. Testing the availability of an edition is then one bit test, changing the availability of an
+	 * edition only updates the subtree whose effective availability changes and the completion skips a not available branch with
+	 * one bit test. Adding or removing a child only indexes or releases the editions of this child. When disabled, each edition gets
+	 * back its effective availability.
+	 * 
+	 * @param enabled True to store the availability of the editions of this tree in bit sets, false otherwise.
+	 */
+	protected void setAvailabilityIndexEnabled(boolean enabled) {
+		if (enabled == isAvailabilityIndexEnabled())
+			return;
+
+		// The index registers itself in each edition of the tree, this edition included.
+		if (enabled)
+			new AvailabilityIndex(this, isConcurrent());
+		else
+			getAvailabilityIndex().release();
+	}
+
+	/**
+	 * @return True if the availability of the editions of this tree is stored in bit sets, false otherwise.
+	 * 
+	 * @see #setAvailabilityIndexEnabled(boolean)
+	 */
+	protected boolean isAvailabilityIndexEnabled() {
+		return getAvailabilityIndex() != null;
 	}
 
 	protected void internalSetAvailable(boolean available) {
 		super.internalSetAvailable(available);
-		if (isModifiable())
+		// With an availability index, children are not available as long as this edition is not available.
+		if (isModifiable() && !isIndexed())
 			for (W edition : getChildren().values())
 				edition.setAvailable(available);
 	}
 
+	@Override
+	protected void setConcurrent(boolean concurrent) {
+		super.setConcurrent(concurrent);
+		descendants.setConcurrent(concurrent);
+		if (isAvailabilityIndexEnabled())
+			getAvailabilityIndex().setConcurrent(concurrent);
+	}
+
 	protected void internalAdd(W elt) {
 		super.internalAdd(elt);
-		internalAddToDescendants(elt);
+		descendants.add(elt);
+		trie.add(elt);
 	}
 
 	protected void internalRemove(W elt) {
 		super.internalRemove(elt);
-		internalRemoveFromDescendants(elt);
-	}
-
-	private void internalAddToDescendants(W elt) {
-		for (W element : elt.getChildren().values())
-			internalAddToDescendants(element);
-		descendants.add(elt);
-	}
-
-	private void internalRemoveFromDescendants(W elt) {
-		for (W element : elt.getChildren().values())
-			internalRemoveFromDescendants(element);
 		descendants.remove(elt);
+		trie.remove(elt.getLabel());
 	}
 }
@@ -1,8 +1,10 @@
 package fr.pederobien.minecraftdevelopmenttoolkit.impl;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -14,32 +16,36 @@ import fr.pederobien.minecraftdevelopmenttoolkit.interfaces.IGenericEdition;
 import fr.pederobien.minecraftdevelopmenttoolkit.interfaces.IGenericMapEdition;
 import fr.pederobien.minecraftdevelopmenttoolkit.interfaces.IGenericParentEdition;
 import fr.pederobien.minecraftdevelopmenttoolkit.interfaces.IHelper;
+import fr.pederobien.minecraftdevelopmenttoolkit.utils.Arguments;
 import fr.pederobien.minecraftmanagers.MessageManager;
 
 public abstract class AbstractHelper<T, U, V extends IGenericParentEdition<T, U, V, W>, W extends IGenericMapEdition<T, U, V, W>> extends AbstractGenericEdition<T>
 		implements IHelper<T, U, V, W> {
+	private static final MethodOverride ARRAY_TAB_COMPLETE = new MethodOverride(AbstractHelper.class, "onTabComplete", CommandSender.class, Command.class,
+			String.class, String[].class);
+	private static final MethodOverride VIEW_TAB_COMPLETE = new MethodOverride(AbstractHelper.class, "onTabComplete", CommandSender.class, Command.class,
+			String.class, Arguments.class);
+	private static final MethodOverride ARRAY_HELP = new MethodOverride(AbstractHelper.class, "help", CommandSender.class, String[].class);
+	private static final MethodOverride VIEW_HELP = new MethodOverride(AbstractHelper.class, "help", CommandSender.class, Arguments.class);
 	private IGenericParentEdition<T, U, V, W> parent;
+	private volatile Snapshot<T, W> snapshot;
 
 	public AbstractHelper(T explanation) {
 		super("help", explanation);
 	}
 
+	/**
+	 * Calls {@link #onTabComplete(CommandSender, Command, String, Arguments)}. Helpers written before the view overloads existed may
+	 * override only this method: the toolkit then calls it instead of the view overload.
+	 */
 	@Override
 	public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
-		try {
-			Collection<W> values = parent.getChildren().values();
-			W edition = parent.getChildren().get(args[0]);
-
-			for (int i = 1; i < args.length; i++) {
-				if (edition != null) {
-					values = edition.getChildren().values();
-					edition = edition.getChildren().get(args[i]);
-				}
-			}
-			return filter(filter(values.stream()), args[args.length - 1]);
-		} catch (IndexOutOfBoundsException | NullPointerException e) {
-			return emptyList();
-		}
+		return onTabComplete(sender, command, alias, Arguments.of(args));
+	}
+
+	@Override
+	public List<String> onTabComplete(CommandSender sender, Command command, String alias, Arguments args) {
+		return tabComplete(sender, args);
 	}
 
 	@Override
@@ -48,17 +54,51 @@ public abstract class AbstractHelper<T, U, V extends IGenericParentEdition<T, U,
 		return this;
 	}
 
+	/**
+	 * Calls {@link #help(CommandSender, Arguments)}. Helpers written before the view overloads existed may override only this method:
+	 * the toolkit then calls it instead of the view overload.
+	 */
 	@Override
 	public void help(CommandSender sender, String[] args) {
-		try {
-			W edition = parent.getChildren().get(args[0]);
-			for (int i = 1; i < args.length; i++)
-				if (edition != null)
-					edition = edition.getChildren().get(args[i]);
-			sendMessage((Player) sender, edition);
-		} catch (IndexOutOfBoundsException e) {
-			sendMessage((Player) sender, parent);
-		}
+		help(sender, Arguments.of(args));
+	}
+
+	@Override
+	public void help(CommandSender sender, Arguments args) {
+		internalHelp(sender, args);
+	}
+
+	/**
+	 * Gets the completion of the given helper. If the helper only overrides the method <code>onTabComplete</code> that takes an
+	 * array, this method is called with a copy of the arguments.
+	 * 
+	 * @param helper  The helper that completes the arguments.
+	 * @param sender  Source of the completion.
+	 * @param command Command which was executed.
+	 * @param alias   The alias used.
+	 * @param args    The arguments for the helper.
+	 * 
+	 * @return A list of possible completions for the final argument.
+	 */
+	static List<String> tabCompleteWith(IHelper<?, ?, ?, ?> helper, CommandSender sender, Command command, String alias, Arguments args) {
+		if (helper instanceof AbstractHelper<?, ?, ?, ?> && ((AbstractHelper<?, ?, ?, ?>) helper).isArrayOnly(ARRAY_TAB_COMPLETE, VIEW_TAB_COMPLETE))
+			return helper.onTabComplete(sender, command, alias, args.toArray());
+		return helper.onTabComplete(sender, command, alias, args);
+	}
+
+	/**
+	 * Sends the explanations of the given helper. If the helper only overrides the method <code>help</code> that takes an array, this
+	 * method is called with a copy of the arguments.
+	 * 
+	 * @param helper The helper that sends the explanations.
+	 * @param sender The object used to send explanations.
+	 * @param args   The arguments for the helper.
+	 */
+	static void helpWith(IHelper<?, ?, ?, ?> helper, CommandSender sender, Arguments args) {
+		if (helper instanceof AbstractHelper<?, ?, ?, ?> && ((AbstractHelper<?, ?, ?, ?>) helper).isArrayOnly(ARRAY_HELP, VIEW_HELP))
+			helper.help(sender, args.toArray());
+		else
+			helper.help(sender, args);
 	}
 
 	/**
@@ -81,23 +121,222 @@ public abstract class AbstractHelper<T, U, V extends IGenericParentEdition<T, U,
 	 */
 	protected abstract void sendMessage(Player player, List<IGenericEdition<T>> editions);
 
+	/**
+	 * Renders the explanations of the given editions as one message. If this method returns a message, the message is kept for the
+	 * locale of the player and sent using {@link #sendMessage(Player, String)} to every player with the same locale, until an edition
+	 * is added, removed or its availability changes. If not overridden, this method returns null and the editions are given to
+	 * {@link #sendMessage(Player, List)}.
+	 * 
+	 * @param player   The player that requested the explanations, whose locale is used to render the message.
+	 * @param editions The list of editions whose explanations should be rendered.
+	 * 
+	 * @return The rendered message, or null to send the explanations using {@link #sendMessage(Player, List)}.
+	 */
+	protected String render(Player player, List<IGenericEdition<T>> editions) {
+		return null;
+	}
+
+	/**
+	 * @return True if this helper overrides the method that takes an array but not the method that takes a view.
+	 */
+	private boolean isArrayOnly(MethodOverride array, MethodOverride view) {
+		return array.isOverriddenBy(this) && !view.isOverriddenBy(this);
+	}
+
+	private List<String> tabComplete(CommandSender sender, Arguments args) {
+		if (parent == null || args.isEmpty())
+			return emptyList();
+
+		// All arguments but the last one give the edition whose children are proposed.
+		W edition = resolve(sender, args, args.length() - 1);
+		Object node = edition == null ? parent : edition;
+		if (node instanceof AbstractCommonEdition<?, ?, ?>)
+			return filter(((AbstractCommonEdition<?, ?, ?>) node).getAvailableLabels().stream().filter(label -> !label.equals("help")), args.last());
+
+		Collection<W> values = edition == null ? parent.getChildren().values() : edition.getChildren().values();
+		return filter(filter(values.stream()), args.last());
+	}
+
+	/**
+	 * Follows the given labels from the parent, until a label does not correspond to any child. The path resolved for the last
+	 * completion of the sender is reused if it starts the given labels, so that only the new labels are resolved.
+	 * 
+	 * @param sender The source of the completion.
+	 * @param labels The arguments that contain the labels to follow.
+	 * @param length The number of labels to follow.
+	 * 
+	 * @return The last edition found, or null if the first label does not correspond to any child of the parent.
+	 */
+	private W resolve(CommandSender sender, Arguments labels, int length) {
+		Snapshot<T, W> current = sender == null ? null : getSnapshot();
+		Object key = sender instanceof Player ? ((Player) sender).getUniqueId() : sender;
+		ResolvedPath<W> previous = current == null ? null : current.paths.get(key);
+
+		int start = 0;
+		W edition = null;
+		boolean isComplete = true;
+		if (previous != null && previous.isPrefixOf(labels, length)) {
+			start = previous.labels.length;
+			edition = previous.edition;
+			isComplete = previous.isComplete;
+
+			// Nothing new to resolve, typically while the player is typing the last argument.
+			if (start == length)
+				return edition;
+		}
+
+		for (int i = start; i < length && isComplete; i++) {
+			W child = edition == null ? parent.getChildren().get(labels.get(i)) : edition.getChildren().get(labels.get(i));
+			if (child == null)
+				isComplete = false;
+			else
+				edition = child;
+		}
+
+		if (current != null)
+			current.paths.put(key, new ResolvedPath<W>(labels.toArray(length), edition, isComplete));
+		return edition;
+	}
+
+	private void internalHelp(CommandSender sender, Arguments args) {
+		try {
+			W edition = parent.getChildren().get(args.get(0));
+			for (int i = 1; i < args.length(); i++)
+				if (edition != null)
+					edition = edition.getChildren().get(args.get(i));
+			sendMessage((Player) sender, edition);
+		} catch (IndexOutOfBoundsException e) {
+			sendMessage((Player) sender, parent);
+		}
+	}
+
 	private void sendMessage(Player player, IGenericParentEdition<T, U, V, W> parent) {
-		sendExplanations(player, concat(parent, parent.getChildren()));
+		sendExplanations(player, getPage(parent, parent.getChildren()));
 	}
 
 	private void sendMessage(Player player, W edition) {
-		sendExplanations(player, concat(edition, edition.getChildren()));
+		sendExplanations(player, getPage(edition, edition.getChildren()));
+	}
+
+	private HelpPage<T> getPage(IGenericEdition<T> edition, Map<String, W> children) {
+		Snapshot<T, W> current = getSnapshot();
+		HelpPage<T> page = current == null ? null : current.pages.get(edition);
+		if (page == null) {
+			page = new HelpPage<T>(Collections.unmodifiableList(concat(edition, children).collect(Collectors.toList())));
+			if (current != null)
+				current.pages.putIfAbsent(edition, page);
+		}
+		return page;
+	}
+
+	/**
+	 * Get the pages and the paths computed since the last modification of the tree of the parent of this helper. The snapshot of an
+	 * older version is replaced, so that the pages and the paths computed before a modification of the tree are all dropped. Reading a
+	 * snapshot takes no lock.
+	 * 
+	 * @return The snapshot of the current version of the tree, or null if the parent is not an edition of this toolkit, in which case
+	 *         a modification of the tree cannot be detected.
+	 * 
+	 * @see AbstractCommonEdition#getTreeVersion()
+	 */
+	private Snapshot<T, W> getSnapshot() {
+		Object root = parent;
+		if (!(root instanceof AbstractCommonEdition<?, ?, ?>))
+			return null;
+
+		long version = ((AbstractCommonEdition<?, ?, ?>) root).getTreeVersion();
+		Snapshot<T, W> current = snapshot;
+		if (current == null || current.root != root || current.version != version)
+			snapshot = current = new Snapshot<T, W>(root, version);
+		return current;
 	}
 
+	@SuppressWarnings("unchecked")
 	private Stream<IGenericEdition<T>> concat(IGenericEdition<T> genericEdition, Map<String, W> map) {
-		return Stream.concat(Stream.of(genericEdition), map.values().stream().filter(e -> e.isAvailable()).sorted());
+		// The children of the editions of this toolkit are already sorted.
+		Stream<W> children;
+		if (genericEdition instanceof AbstractCommonEdition<?, ?, ?>)
+			children = ((List<W>) ((AbstractCommonEdition<?, ?, ?>) genericEdition).getSortedChildren()).stream();
+		else
+			children = map.values().stream().sorted();
+		return Stream.concat(Stream.of(genericEdition), children.filter(e -> e.isAvailable()));
 	}
 
-	private void sendExplanations(Player player, Stream<IGenericEdition<T>> explanations) {
-		sendMessage(player, explanations.collect(Collectors.toList()));
+	private void sendExplanations(Player player, HelpPage<T> page) {
+		String locale = player.getLocale();
+		String message = page.getMessage(locale);
+		if (message == null) {
+			message = render(player, page.getEditions());
+			if (message != null)
+				page.putMessage(locale, message);
+		}
+
+		if (message == null)
+			sendMessage(player, page.getEditions());
+		else
+			sendMessage(player, message);
 	}
 
 	private Stream<String> filter(Stream<W> stream) {
 		return stream.filter(e -> e.isAvailable()).filter(e -> !e.getLabel().equals("help")).map(e -> e.getLabel());
 	}
+
+	private static class HelpPage<T> {
+		private final List<IGenericEdition<T>> editions;
+		private final Map<String, String> messages;
+
+		private HelpPage(List<IGenericEdition<T>> editions) {
+			this.editions = editions;
+			messages = new ConcurrentHashMap<String, String>();
+		}
+
+		private List<IGenericEdition<T>> getEditions() {
+			return editions;
+		}
+
+		private String getMessage(String locale) {
+			return locale == null ? null : messages.get(locale);
+		}
+
+		private void putMessage(String locale, String message) {
+			if (locale != null)
+				messages.put(locale, message);
+		}
+	}
+
+	private static class Snapshot<T, W> {
+		private final Object root;
+		private final long version;
+		private final Map<IGenericEdition<T>, HelpPage<T>> pages;
+		// Players are identified by their unique id, so that a player who left the server is not retained.
+		private final Map<Object, ResolvedPath<W>> paths;
+
+		private Snapshot(Object root, long version) {
+			this.root = root;
+			this.version = version;
+			pages = new ConcurrentHashMap<IGenericEdition<T>, HelpPage<T>>();
+			paths = new ConcurrentHashMap<Object, ResolvedPath<W>>();
+		}
+	}
+
+	private static class ResolvedPath<W> {
+		private final String[] labels;
+		private final W edition;
+		private final boolean isComplete;
+
+		private ResolvedPath(String[] labels, W edition, boolean isComplete) {
+			this.labels = labels;
+			this.edition = edition;
+			this.isComplete = isComplete;
+		}
+
+		private boolean isPrefixOf(Arguments others, int length) {
+			if (labels.length > length)
+				return false;
+			for (int i = 0; i < labels.length; i++)
+				if (!labels[i].equals(others.get(i)))
+					return false;
+			return true;
+		}
+	}
 }
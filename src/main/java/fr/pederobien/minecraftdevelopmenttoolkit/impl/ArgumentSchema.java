@@ -0,0 +1,132 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.bukkit.command.CommandSender;
+
+import fr.pederobien.minecraftdevelopmenttoolkit.interfaces.IArgumentType;
+import fr.pederobien.minecraftdevelopmenttoolkit.utils.Arguments;
+
+/**
+ * Declares the arguments expected by an edition, in order. The arguments are validated, completed and converted in one pass. While
+ * a player is typing a command, the arguments converted for the last completion are kept so that the command that follows does not
+ * convert them again, if their type tells they are {@link IArgumentType#isReusable(Object) reusable}.
+ */
+public class ArgumentSchema {
+	private final List<String> names;
+	private final List<IArgumentType<?>> types;
+	private final Map<CommandSender, ParsedArguments> lastParsed;
+
+	/**
+	 * Creates an empty schema.
+	 */
+	public ArgumentSchema() {
+		names = new ArrayList<String>();
+		types = new ArrayList<IArgumentType<?>>();
+		lastParsed = Collections.synchronizedMap(new WeakHashMap<CommandSender, ParsedArguments>());
+	}
+
+	/**
+	 * Appends an argument to this schema.
+	 *
+	 * @param name The name of the argument, used to get the converted argument.
+	 * @param type The type of the argument.
+	 *
+	 * @return This schema.
+	 *
+	 * @throws IllegalArgumentException If this schema already contains an argument with the given name.
+	 */
+	public ArgumentSchema add(String name, IArgumentType<?> type) {
+		if (names.contains(name))
+			throw new IllegalArgumentException("The schema already contains an argument named " + name);
+		names.add(name);
+		types.add(type);
+		return this;
+	}
+
+	/**
+	 * @return The number of arguments of this schema.
+	 */
+	public int size() {
+		return types.size();
+	}
+
+	/**
+	 * Converts the given arguments. The reusable arguments already converted for the last completion of the sender are not converted
+	 * again.
+	 *
+	 * @param sender The source of the command.
+	 * @param args   The arguments of the command.
+	 *
+	 * @return The converted arguments.
+	 */
+	public ParsedArguments parse(CommandSender sender, Arguments args) {
+		return parse(args, args.length(), lastParsed.remove(sender));
+	}
+
+	/**
+	 * Converts all the given arguments except the last one, that is being typed, then gets the values to propose for the last
+	 * argument. The converted arguments are kept for the command that follows.
+	 *
+	 * @param sender The source of the completion.
+	 * @param args   The arguments typed so far.
+	 *
+	 * @return A list that contains the values to propose for the last argument, empty if a previous argument is not valid.
+	 */
+	public List<String> complete(CommandSender sender, Arguments args) {
+		if (args.isEmpty())
+			return Collections.emptyList();
+
+		int index = args.length() - 1;
+		ParsedArguments parsed = parse(args, index, lastParsed.get(sender));
+		lastParsed.put(sender, parsed);
+
+		if (parsed.getErrorIndex() != -1 || index >= types.size())
+			return Collections.emptyList();
+		return types.get(index).complete(args.get(index));
+	}
+
+	/**
+	 * @param name The name of an argument.
+	 *
+	 * @return The index of the argument in this schema.
+	 *
+	 * @throws IllegalArgumentException If this schema does not contain an argument with the given name.
+	 */
+	int indexOf(String name) {
+		int index = names.indexOf(name);
+		if (index == -1)
+			throw new IllegalArgumentException("The schema does not contain an argument named " + name);
+		return index;
+	}
+
+	private ParsedArguments parse(Arguments args, int length, ParsedArguments previous) {
+		String[] tokens = new String[length];
+		Object[] values = new Object[length];
+		int parsed = 0;
+		for (; parsed < length && parsed < types.size(); parsed++) {
+			String token = args.get(parsed);
+			tokens[parsed] = token;
+			IArgumentType<?> type = types.get(parsed);
+			Object value = previous != null && previous.isParsed(parsed, token) ? previous.getValue(parsed) : null;
+			if (value == null || !isReusable(type, value))
+				value = type.parse(token);
+			if (value == null)
+				break;
+			values[parsed] = value;
+		}
+
+		for (int i = parsed; i < length; i++)
+			tokens[i] = args.get(i);
+		return new ParsedArguments(this, tokens, values, parsed);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <A> boolean isReusable(IArgumentType<A> type, Object value) {
+		return type.isReusable((A) value);
+	}
+}
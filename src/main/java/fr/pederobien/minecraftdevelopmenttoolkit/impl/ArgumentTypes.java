@@ -0,0 +1,227 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.impl;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import fr.pederobien.minecraftdevelopmenttoolkit.interfaces.IArgumentType;
+import fr.pederobien.minecraftdevelopmenttoolkit.utils.ParseHelper;
+
+/**
+ * The argument types commonly used by commands. Each type is built once and then converts and completes arguments without throwing
+ * exceptions.
+ */
+public class ArgumentTypes {
+	private static final IArgumentType<Double> DECIMAL = new DecimalType();
+	private static final IArgumentType<LocalTime> TIME = new TimeType();
+	private static final IArgumentType<Boolean> BOOLEAN = new BooleanType();
+	private static final IArgumentType<Player> PLAYER = new PlayerType();
+
+	/**
+	 * @param min The minimum value, inclusive.
+	 * @param max The maximum value, inclusive.
+	 *
+	 * @return A type that converts a signed decimal integer between min and max.
+	 */
+	public static IArgumentType<Integer> integer(int min, int max) {
+		if (min > max)
+			throw new IllegalArgumentException("The minimum value " + min + " is greater than the maximum value " + max);
+		return new IntegerType(min, max);
+	}
+
+	/**
+	 * @return A type that converts a signed decimal integer.
+	 */
+	public static IArgumentType<Integer> integer() {
+		return integer(Integer.MIN_VALUE, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * @return A type that converts a double, as {@link Double#parseDouble(String)} does.
+	 */
+	public static IArgumentType<Double> decimal() {
+		return DECIMAL;
+	}
+
+	/**
+	 * @return A type that converts a time such as "10:15:30", as {@link LocalTime#parse(CharSequence)} does.
+	 */
+	public static IArgumentType<LocalTime> time() {
+		return TIME;
+	}
+
+	/**
+	 * @return A type that converts {@code "true"} or {@code "false"}, ignoring case.
+	 */
+	public static IArgumentType<Boolean> bool() {
+		return BOOLEAN;
+	}
+
+	/**
+	 * @param enumClass The class of the enumeration.
+	 *
+	 * @return A type that converts the name of a constant of the enumeration, ignoring case.
+	 */
+	public static <E extends Enum<E>> IArgumentType<E> enumeration(Class<E> enumClass) {
+		return new EnumType<E>(enumClass);
+	}
+
+	/**
+	 * @return A type that converts the name of an online player.
+	 */
+	public static IArgumentType<Player> player() {
+		return PLAYER;
+	}
+
+	private static List<String> startingWith(String[] values, String arg) {
+		List<String> completions = new ArrayList<String>();
+		for (String value : values)
+			if (value.regionMatches(true, 0, arg, 0, arg.length()))
+				completions.add(value);
+		return completions;
+	}
+
+	private static class IntegerType implements IArgumentType<Integer> {
+		private final int min, max;
+
+		private IntegerType(int min, int max) {
+			this.min = min;
+			this.max = max;
+		}
+
+		@Override
+		public Integer parse(String arg) {
+			if (!ParseHelper.isInt(arg))
+				return null;
+			int value = ParseHelper.parseInt(arg, 0, arg.length());
+			return min <= value && value <= max ? value : null;
+		}
+
+		@Override
+		public List<String> complete(String arg) {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public boolean isReusable(Integer value) {
+			return true;
+		}
+	}
+
+	private static class DecimalType implements IArgumentType<Double> {
+
+		@Override
+		public Double parse(String arg) {
+			return ParseHelper.isDouble(arg) ? Double.parseDouble(arg) : null;
+		}
+
+		@Override
+		public List<String> complete(String arg) {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public boolean isReusable(Double value) {
+			return true;
+		}
+	}
+
+	private static class TimeType implements IArgumentType<LocalTime> {
+
+		@Override
+		public LocalTime parse(String arg) {
+			return ParseHelper.isTime(arg) ? LocalTime.parse(arg) : null;
+		}
+
+		@Override
+		public List<String> complete(String arg) {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public boolean isReusable(LocalTime value) {
+			return true;
+		}
+	}
+
+	private static class BooleanType implements IArgumentType<Boolean> {
+		private static final String[] VALUES = new String[] { "true", "false" };
+
+		@Override
+		public Boolean parse(String arg) {
+			return ParseHelper.isBoolean(arg) ? ParseHelper.parseBoolean(arg, 0, arg.length()) : null;
+		}
+
+		@Override
+		public List<String> complete(String arg) {
+			return startingWith(VALUES, arg);
+		}
+
+		@Override
+		public boolean isReusable(Boolean value) {
+			return true;
+		}
+	}
+
+	private static class EnumType<E extends Enum<E>> implements IArgumentType<E> {
+		private final Map<String, E> constants;
+		private final String[] names;
+
+		private EnumType(Class<E> enumClass) {
+			E[] values = enumClass.getEnumConstants();
+			constants = new HashMap<String, E>();
+			names = new String[values.length];
+			for (int i = 0; i < values.length; i++) {
+				names[i] = values[i].name().toLowerCase(Locale.ROOT);
+				constants.put(names[i], values[i]);
+			}
+			Arrays.sort(names);
+		}
+
+		@Override
+		public E parse(String arg) {
+			return constants.get(arg.toLowerCase(Locale.ROOT));
+		}
+
+		@Override
+		public List<String> complete(String arg) {
+			return startingWith(names, arg);
+		}
+
+		@Override
+		public boolean isReusable(E value) {
+			return true;
+		}
+	}
+
+	private static class PlayerType implements IArgumentType<Player> {
+
+		@Override
+		public Player parse(String arg) {
+			return Bukkit.getPlayerExact(arg);
+		}
+
+		@Override
+		public List<String> complete(String arg) {
+			List<String> completions = new ArrayList<String>();
+			for (Player player : Bukkit.getOnlinePlayers())
+				if (player.getName().regionMatches(true, 0, arg, 0, arg.length()))
+					completions.add(player.getName());
+			return completions;
+		}
+
+		@Override
+		public boolean isReusable(Player value) {
+			// The player may have left the server since the argument has been converted.
+			return value.isOnline();
+		}
+	}
+}
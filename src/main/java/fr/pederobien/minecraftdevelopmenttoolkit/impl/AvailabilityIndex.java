@@ -0,0 +1,230 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.impl;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Stores the availability and the modifiability of all the editions of a tree in bit sets. Each edition gets a dense position and
+ * the position of its parent. Besides its own availability, the effective availability of each edition is stored : an edition is
+ * available if its own bit is set and if all its ancestors are available. Testing the availability of an edition is one bit test,
+ * and changing the availability of an edition only updates the effective availability of its subtree, and only as deep as it
+ * changes.
+ * <p>
+ * In concurrent mode, the bit sets are changed on copies and the copies are published once the change is complete, so that the
+ * threads that test the availability of an edition never read a bit set while it is being changed.
+ */
+final class AvailabilityIndex {
+	private AbstractCommonEdition<?, ?, ?>[] nodes;
+	private int[] parents, free;
+	private int size, freeCount;
+	private BitSet own, effective, modifiable;
+	private volatile Bits published;
+	private boolean isConcurrent;
+
+	/**
+	 * Creates an index over the given edition and all its descendants.
+	 *
+	 * @param root       The root of the indexed tree.
+	 * @param concurrent True if the availability of the editions is tested by several threads.
+	 */
+	public AvailabilityIndex(AbstractCommonEdition<?, ?, ?> root, boolean concurrent) {
+		isConcurrent = concurrent;
+		nodes = new AbstractCommonEdition<?, ?, ?>[16];
+		parents = new int[16];
+		free = new int[0];
+		own = new BitSet();
+		effective = new BitSet();
+		modifiable = new BitSet();
+		// The editions can be tested as soon as they are attached.
+		publish();
+		copy();
+		attach(root, -1);
+		publish();
+	}
+
+	/**
+	 * Set the concurrent mode of this index. In concurrent mode, each change is made on a copy of the bit sets, that is published once
+	 * the change is complete.
+	 * 
+	 * @param concurrent True to enable the concurrent mode, false to disable it.
+	 */
+	public void setConcurrent(boolean concurrent) {
+		isConcurrent = concurrent;
+		publish();
+	}
+
+	/**
+	 * Indexes the given child and all its descendants with their current state. Only the new editions are visited.
+	 *
+	 * @param parent The edition the child has been added to.
+	 * @param child  The added child.
+	 */
+	public void add(AbstractCommonEdition<?, ?, ?> parent, Object child) {
+		if (parent.getAvailabilityIndex() == this && child instanceof AbstractCommonEdition<?, ?, ?>) {
+			copy();
+			attach((AbstractCommonEdition<?, ?, ?>) child, parent.getAvailabilityPosition());
+			publish();
+		}
+	}
+
+	/**
+	 * Removes the given child and all its descendants from this index. Each of them gets back its own state. Only the removed editions
+	 * are visited.
+	 *
+	 * @param child The removed child.
+	 */
+	public void remove(Object child) {
+		if (child instanceof AbstractCommonEdition<?, ?, ?> && ((AbstractCommonEdition<?, ?, ?>) child).getAvailabilityIndex() == this) {
+			copy();
+			detach((AbstractCommonEdition<?, ?, ?>) child);
+			publish();
+		}
+	}
+
+	/**
+	 * Detaches all the editions from this index. Each edition gets back its effective availability, so that its state does not change.
+	 */
+	public void release() {
+		for (int i = 0; i < size; i++)
+			if (nodes[i] != null)
+				nodes[i].detach(effective.get(i), modifiable.get(i));
+		nodes = new AbstractCommonEdition<?, ?, ?>[0];
+		size = 0;
+	}
+
+	/**
+	 * @param position The position of an edition.
+	 *
+	 * @return True if the edition and all its ancestors are available.
+	 */
+	public boolean isAvailable(int position) {
+		return published.effective.get(position);
+	}
+
+	/**
+	 * @param position The position of an edition.
+	 *
+	 * @return The own availability of the edition, regardless of its ancestors.
+	 */
+	public boolean isOwnAvailable(int position) {
+		return published.own.get(position);
+	}
+
+	/**
+	 * @param position  The position of an edition.
+	 * @param available The new own availability of the edition.
+	 */
+	public void setAvailable(int position, boolean available) {
+		if (own.get(position) == available)
+			return;
+		copy();
+		own.set(position, available);
+		update(position);
+		publish();
+	}
+
+	/**
+	 * @param position The position of an edition.
+	 *
+	 * @return True if the edition is modifiable.
+	 */
+	public boolean isModifiable(int position) {
+		return published.modifiable.get(position);
+	}
+
+	/**
+	 * @param position   The position of an edition.
+	 * @param modifiable The new modifiability of the edition.
+	 */
+	public void setModifiable(int position, boolean modifiable) {
+		if (this.modifiable.get(position) == modifiable)
+			return;
+		copy();
+		this.modifiable.set(position, modifiable);
+		publish();
+	}
+
+	private void attach(AbstractCommonEdition<?, ?, ?> node, int parent) {
+		int position = allocate();
+		nodes[position] = node;
+		parents[position] = parent;
+		own.set(position, node.isOwnAvailable());
+		modifiable.set(position, node.isModifiable());
+		effective.set(position, own.get(position) && (parent == -1 || effective.get(parent)));
+		node.attach(this, position);
+
+		for (Object child : node.getChildren().values())
+			if (child instanceof AbstractCommonEdition<?, ?, ?>)
+				attach((AbstractCommonEdition<?, ?, ?>) child, position);
+	}
+
+	private void detach(AbstractCommonEdition<?, ?, ?> node) {
+		int position = node.getAvailabilityPosition();
+		boolean isOwnAvailable = own.get(position), isModifiable = modifiable.get(position);
+		for (Object child : node.getChildren().values())
+			if (child instanceof AbstractCommonEdition<?, ?, ?> && ((AbstractCommonEdition<?, ?, ?>) child).getAvailabilityIndex() == this)
+				detach((AbstractCommonEdition<?, ?, ?>) child);
+
+		node.detach(isOwnAvailable, isModifiable);
+		nodes[position] = null;
+		own.clear(position);
+		effective.clear(position);
+		modifiable.clear(position);
+		if (freeCount == free.length)
+			free = Arrays.copyOf(free, Math.max(16, freeCount * 2));
+		free[freeCount++] = position;
+	}
+
+	/**
+	 * In concurrent mode, replaces the bit sets by copies before they are changed, the published bit sets are never changed.
+	 */
+	private void copy() {
+		if (!isConcurrent)
+			return;
+		own = (BitSet) own.clone();
+		effective = (BitSet) effective.clone();
+		modifiable = (BitSet) modifiable.clone();
+	}
+
+	/**
+	 * Publishes the current bit sets to the threads that test the availability of the editions.
+	 */
+	private void publish() {
+		published = new Bits(own, effective, modifiable);
+	}
+
+	private int allocate() {
+		if (freeCount > 0)
+			return free[--freeCount];
+		if (size == nodes.length) {
+			nodes = Arrays.copyOf(nodes, size * 2);
+			parents = Arrays.copyOf(parents, size * 2);
+		}
+		return size++;
+	}
+
+	/**
+	 * Computes again the effective availability of the edition at the given position and, if it changed, of its children.
+	 */
+	private void update(int position) {
+		int parent = parents[position];
+		boolean available = own.get(position) && (parent == -1 || effective.get(parent));
+		if (effective.get(position) == available)
+			return;
+
+		effective.set(position, available);
+		for (Object child : nodes[position].getChildren().values())
+			if (child instanceof AbstractCommonEdition<?, ?, ?> && ((AbstractCommonEdition<?, ?, ?>) child).getAvailabilityIndex() == this)
+				update(((AbstractCommonEdition<?, ?, ?>) child).getAvailabilityPosition());
+	}
+
+	private static class Bits {
+		private final BitSet own, effective, modifiable;
+
+		private Bits(BitSet own, BitSet effective, BitSet modifiable) {
+			this.own = own;
+			this.effective = effective;
+			this.modifiable = modifiable;
+		}
+	}
+}
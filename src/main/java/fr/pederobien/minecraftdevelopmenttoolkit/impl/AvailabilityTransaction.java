@@ -0,0 +1,111 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.impl;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import fr.pederobien.minecraftdevelopmenttoolkit.interfaces.ICommonEdition;
+
+/**
+ * Collects the editions to make available or not available and applies them when committed. Intents on the same label are merged :
+ * only the last intent of a label is kept, at the position of this last intent, so that the result is the same as calling
+ * {@link ICommonEdition#setAvailable(boolean)} for each intent in order. Each state change goes through
+ * {@link ICommonEdition#setAvailable(boolean)}, so that the overrides of this method are called, and the editions whose
+ * availability changed are notified once.
+ * <p>
+ * A transaction does not change the availability faster than the equivalent calls to <code>setAvailable</code>: each targeted
+ * edition still updates its own subtree, so a subtree targeted through several labels is visited once per label. Committing also
+ * visits the targeted subtrees once more to find the editions whose availability changed. What a transaction saves is the
+ * intermediate states of the labels targeted several times and the notification of each change.
+ *
+ * @param <E> The type of the editions whose availability is changed.
+ */
+public class AvailabilityTransaction<E extends ICommonEdition<?, E, ?>> {
+	private final Function<String, List<E>> descendants;
+	private final Consumer<List<E>> listener;
+	private final Map<String, Boolean> intents;
+
+	/**
+	 * Creates a transaction.
+	 *
+	 * @param descendants The function used to get all the descendants associated to a label.
+	 * @param listener    The action to run once with all the editions whose availability changed, if any.
+	 */
+	AvailabilityTransaction(Function<String, List<E>> descendants, Consumer<List<E>> listener) {
+		this.descendants = descendants;
+		this.listener = listener;
+		intents = new LinkedHashMap<String, Boolean>();
+	}
+
+	/**
+	 * Make available all the descendants whose label matches one of the given labels.
+	 *
+	 * @param labels The labels of the editions to make available.
+	 *
+	 * @return This transaction.
+	 */
+	public AvailabilityTransaction<E> enable(String... labels) {
+		return put(true, labels);
+	}
+
+	/**
+	 * Make not available all the descendants whose label matches one of the given labels.
+	 *
+	 * @param labels The labels of the editions to make not available.
+	 *
+	 * @return This transaction.
+	 */
+	public AvailabilityTransaction<E> disable(String... labels) {
+		return put(false, labels);
+	}
+
+	/**
+	 * Applies the last intent of each label registered in this transaction, in the order of these intents, by calling
+	 * <code>setAvailable</code> on each descendant associated to the label, then notifies the editions whose availability changed. The
+	 * availability of the targeted subtrees is read before applying the intents in order to find these editions. The transaction can
+	 * be committed again.
+	 */
+	public void commit() {
+		Map<String, List<E>> targets = new LinkedHashMap<String, List<E>>();
+		Map<E, Boolean> before = new IdentityHashMap<E, Boolean>();
+		for (String label : intents.keySet()) {
+			List<E> editions = descendants.apply(label);
+			targets.put(label, editions);
+			for (E edition : editions)
+				snapshot(edition, before);
+		}
+
+		for (Map.Entry<String, Boolean> intent : intents.entrySet())
+			for (E edition : targets.get(intent.getKey()))
+				edition.setAvailable(intent.getValue());
+
+		List<E> changed = new ArrayList<E>();
+		for (Map.Entry<E, Boolean> entry : before.entrySet())
+			if (entry.getKey().isAvailable() != entry.getValue())
+				changed.add(entry.getKey());
+
+		if (!changed.isEmpty())
+			listener.accept(changed);
+	}
+
+	private AvailabilityTransaction<E> put(boolean available, String... labels) {
+		for (String label : labels) {
+			// Remove first so that the order of the map reflects the last intent.
+			intents.remove(label);
+			intents.put(label, available);
+		}
+		return this;
+	}
+
+	private void snapshot(E edition, Map<E, Boolean> before) {
+		if (before.containsKey(edition))
+			return;
+		before.put(edition, edition.isAvailable());
+		for (E child : edition.getChildren().values())
+			snapshot(child, before);
+	}
+}
@@ -0,0 +1,141 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.impl;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+
+import fr.pederobien.minecraftdevelopmenttoolkit.interfaces.IGenericCommonMapEdition;
+import fr.pederobien.minecraftdevelopmenttoolkit.utils.Arguments;
+
+/**
+ * Compiled view of a command tree used to find the edition that should execute a command in one pass over the arguments array.
+ * Each node of this trie corresponds to a child edition and is immutable. The trie only goes through editions that use the default
+ * dispatch of {@link AbstractGenericCommonMapEdition}, the first edition that overrides its method <code>onCommand</code> is the
+ * one that executes the command.
+ * <p>
+ * Adding or removing an edition publishes a new root map sharing the branches of the previous one. If a child is added to or
+ * removed from an edition deeper in the tree, the trie detects it thanks to {@link AbstractCommonEdition#getStructureVersion()}:
+ * the command is executed by this edition as if there were no trie and the branch is compiled again.
+ *
+ * @param <T> The type of the explanation.
+ * @param <E> The type of editions registered in this trie.
+ */
+final class CommandDispatchTrie<T, E extends IGenericCommonMapEdition<T, E>> {
+	private volatile Map<String, Node<T, E>> roots;
+
+	/**
+	 * Creates an empty trie.
+	 */
+	public CommandDispatchTrie() {
+		roots = Collections.emptyMap();
+	}
+
+	/**
+	 * Compiles the given edition and all its descendants. If an edition with the same label was already registered, its branch is
+	 * replaced.
+	 *
+	 * @param edition The edition to add to the root of this trie.
+	 */
+	public void add(E edition) {
+		Map<String, Node<T, E>> copy = new HashMap<String, Node<T, E>>(roots);
+		copy.put(edition.getLabel(), compile(edition));
+		roots = copy;
+	}
+
+	/**
+	 * Removes the branch associated to the given label.
+	 *
+	 * @param label The label of the root edition to remove.
+	 */
+	public void remove(String label) {
+		if (!roots.containsKey(label))
+			return;
+		Map<String, Node<T, E>> copy = new HashMap<String, Node<T, E>>(roots);
+		copy.remove(label);
+		roots = copy;
+	}
+
+	/**
+	 * Find the edition that should execute the command and run its method <code>onCommand</code>. The arguments are never copied, the
+	 * edition that finally executes the command receives a view on the remaining arguments. A missing or not available argument is
+	 * returned as a result instead of being thrown.
+	 *
+	 * @param sender  Source of the command.
+	 * @param command Command which was executed.
+	 * @param label   Alias of the command which was used.
+	 * @param args    Passed command arguments, the first one is the label of a root edition.
+	 *
+	 * @return The result of the dispatch. When the dispatch succeeded, its value is the value returned by the root edition if it
+	 *         executed the command, true otherwise.
+	 */
+	public DispatchResult dispatch(CommandSender sender, Command command, String label, Arguments args) {
+		String first = args.get(0);
+		Node<T, E> root = roots.get(first);
+		if (root == null)
+			return DispatchResult.argumentNotFound(label, first, args);
+
+		Node<T, E> node = root;
+		boolean isOutOfDate = false;
+		int depth = 1;
+		while (true) {
+			if (!AbstractCommonEdition.isAvailableChild(node.edition))
+				return DispatchResult.argumentNotAvailable(command.getLabel(), node.edition.getLabel());
+
+			// The edition executes the command itself or its children changed since this node has been compiled.
+			isOutOfDate = node.isOutOfDate();
+			if (!node.isDispatcher || depth == args.length() || isOutOfDate)
+				break;
+
+			Node<T, E> child = node.children.get(args.get(depth));
+			if (child == null)
+				return DispatchResult.argumentNotFound(label, args.get(depth), args.from(depth));
+
+			node = child;
+			depth++;
+		}
+
+		try {
+			DispatchResult result = AbstractGenericCommonMapEdition.dispatchTo(node.edition, sender, command, label, args.from(depth));
+			return depth == 1 || !result.isSuccess() ? result : DispatchResult.success(true);
+		} finally {
+			if (isOutOfDate && roots.get(first) == root)
+				add(root.edition);
+		}
+	}
+
+	private Node<T, E> compile(E edition) {
+		boolean isDispatcher = false;
+		int version = -1;
+		if (edition instanceof AbstractGenericCommonMapEdition<?, ?>) {
+			AbstractGenericCommonMapEdition<?, ?> common = (AbstractGenericCommonMapEdition<?, ?>) edition;
+			isDispatcher = common.isDefaultDispatcher();
+			version = common.getStructureVersion();
+		}
+
+		Map<String, Node<T, E>> children = new HashMap<String, Node<T, E>>();
+		for (E child : edition.getChildren().values())
+			children.put(child.getLabel(), compile(child));
+		return new Node<T, E>(edition, version, isDispatcher, children);
+	}
+
+	private static class Node<T, E extends IGenericCommonMapEdition<T, E>> {
+		private final E edition;
+		private final int version;
+		private final boolean isDispatcher;
+		private final Map<String, Node<T, E>> children;
+
+		private Node(E edition, int version, boolean isDispatcher, Map<String, Node<T, E>> children) {
+			this.edition = edition;
+			this.version = version;
+			this.isDispatcher = isDispatcher;
+			this.children = children;
+		}
+
+		private boolean isOutOfDate() {
+			return version != -1 && version != ((AbstractCommonEdition<?, ?, ?>) edition).getStructureVersion();
+		}
+	}
+}
@@ -0,0 +1,17 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.impl;
+
+/**
+ * The different ways to match the label of a child edition with the argument a player is typing.
+ */
+public enum CompletionMode {
+
+	/**
+	 * The label of a child edition is proposed if it starts with the argument.
+	 */
+	PREFIX,
+
+	/**
+	 * The label of a child edition is proposed if it contains the argument.
+	 */
+	SUBSTRING;
+}
@@ -0,0 +1,99 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import fr.pederobien.minecraftdevelopmenttoolkit.interfaces.INodeEdition;
+
+/**
+ * Registers all the descendants of an edition by label. Finding the descendants that have a given label costs one lookup and
+ * registering or unregistering an edition costs one operation per edition of its subtree. In concurrent mode, registering or
+ * unregistering an edition publishes a new copy of the set of editions that have its label, the sets of the other labels are not
+ * copied, so that the registry can be read from any thread.
+ *
+ * @param <E> The type of the registered editions.
+ */
+final class DescendantRegistry<E extends INodeEdition<?, E, ?>> {
+	private final Map<String, Set<E>> descendants;
+	private boolean isConcurrent;
+
+	/**
+	 * Creates an empty registry.
+	 */
+	public DescendantRegistry() {
+		descendants = new ConcurrentHashMap<String, Set<E>>();
+	}
+
+	/**
+	 * Registers the given edition and all its descendants.
+	 *
+	 * @param edition The edition to register.
+	 */
+	public void add(E edition) {
+		for (E child : edition.getChildren().values())
+			add(child);
+
+		Set<E> editions = descendants.get(edition.getLabel());
+		if (editions == null)
+			editions = new LinkedHashSet<E>();
+		else if (isConcurrent)
+			editions = new LinkedHashSet<E>(editions);
+		else {
+			editions.add(edition);
+			return;
+		}
+
+		editions.add(edition);
+		descendants.put(edition.getLabel(), editions);
+	}
+
+	/**
+	 * Unregisters the given edition and all its descendants.
+	 *
+	 * @param edition The edition to unregister.
+	 */
+	public void remove(E edition) {
+		for (E child : edition.getChildren().values())
+			remove(child);
+
+		Set<E> editions = descendants.get(edition.getLabel());
+		if (editions == null || !editions.contains(edition))
+			return;
+
+		if (editions.size() == 1)
+			descendants.remove(edition.getLabel());
+		else if (isConcurrent) {
+			editions = new LinkedHashSet<E>(editions);
+			editions.remove(edition);
+			descendants.put(edition.getLabel(), editions);
+		} else
+			editions.remove(edition);
+	}
+
+	/**
+	 * @param label The label to match on.
+	 *
+	 * @return A new list that contains the registered editions whose label equals the given label, in registration order.
+	 */
+	public List<E> get(String label) {
+		Set<E> editions = descendants.get(label);
+		return editions == null ? new ArrayList<E>() : new ArrayList<E>(editions);
+	}
+
+	/**
+	 * Set the concurrent mode of this registry. In concurrent mode, a set of editions is never modified once published.
+	 *
+	 * @param concurrent True to enable the concurrent mode, false to disable it.
+	 */
+	public void setConcurrent(boolean concurrent) {
+		if (concurrent && !isConcurrent)
+			// The sets modified in place so far are published again.
+			for (Map.Entry<String, Set<E>> entry : descendants.entrySet())
+				entry.setValue(new LinkedHashSet<E>(entry.getValue()));
+		isConcurrent = concurrent;
+	}
+}
@@ -0,0 +1,158 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.impl;
+
+import fr.pederobien.minecraftdevelopmenttoolkit.exceptions.ArgumentNotFoundException;
+import fr.pederobien.minecraftdevelopmenttoolkit.exceptions.MinecraftToolkitException;
+import fr.pederobien.minecraftdevelopmenttoolkit.exceptions.NotAvailableArgumentException;
+import fr.pederobien.minecraftdevelopmenttoolkit.exceptions.NotAvailableCommandException;
+import fr.pederobien.minecraftdevelopmenttoolkit.utils.Arguments;
+
+/**
+ * Outcome of the dispatch of a command in a command tree. Unlike method <code>onCommand</code> that throws an exception when an
+ * argument is not found or not available, the dispatch returns a result that describes the failure. Successful results are shared
+ * constants, so that a successful dispatch does not allocate anything.
+ */
+public final class DispatchResult {
+	private static final DispatchResult SUCCESS_TRUE = new DispatchResult(Status.SUCCESS, true, null, null, null);
+	private static final DispatchResult SUCCESS_FALSE = new DispatchResult(Status.SUCCESS, false, null, null, null);
+
+	public enum Status {
+		/**
+		 * The command has been executed by an edition.
+		 */
+		SUCCESS,
+
+		/**
+		 * An argument does not correspond to any edition.
+		 */
+		ARGUMENT_NOT_FOUND,
+
+		/**
+		 * The edition associated to an argument is not available.
+		 */
+		ARGUMENT_NOT_AVAILABLE,
+
+		/**
+		 * The command itself is not available.
+		 */
+		COMMAND_NOT_AVAILABLE;
+	}
+
+	private final Status status;
+	private final boolean value;
+	private final String label, argument;
+	private final Arguments arguments;
+
+	private DispatchResult(Status status, boolean value, String label, String argument, Arguments arguments) {
+		this.status = status;
+		this.value = value;
+		this.label = label;
+		this.argument = argument;
+		this.arguments = arguments;
+	}
+
+	/**
+	 * @param value The value returned by the edition that executed the command.
+	 *
+	 * @return A successful result.
+	 */
+	public static DispatchResult success(boolean value) {
+		return value ? SUCCESS_TRUE : SUCCESS_FALSE;
+	}
+
+	/**
+	 * @param label     The label of the command.
+	 * @param argument  The not found argument.
+	 * @param arguments The arguments given to the edition that did not find the argument.
+	 *
+	 * @return A result whose status is {@link Status#ARGUMENT_NOT_FOUND}.
+	 */
+	public static DispatchResult argumentNotFound(String label, String argument, Arguments arguments) {
+		return new DispatchResult(Status.ARGUMENT_NOT_FOUND, false, label, argument, arguments);
+	}
+
+	/**
+	 * @param label    The label of the command.
+	 * @param argument The not available argument.
+	 *
+	 * @return A result whose status is {@link Status#ARGUMENT_NOT_AVAILABLE}.
+	 */
+	public static DispatchResult argumentNotAvailable(String label, String argument) {
+		return new DispatchResult(Status.ARGUMENT_NOT_AVAILABLE, false, label, argument, null);
+	}
+
+	/**
+	 * @param label The label of the not available command.
+	 *
+	 * @return A result whose status is {@link Status#COMMAND_NOT_AVAILABLE}.
+	 */
+	public static DispatchResult commandNotAvailable(String label) {
+		return new DispatchResult(Status.COMMAND_NOT_AVAILABLE, false, label, null, null);
+	}
+
+	/**
+	 * @return The status of the dispatch.
+	 */
+	public Status getStatus() {
+		return status;
+	}
+
+	/**
+	 * @return True if the command has been executed by an edition.
+	 */
+	public boolean isSuccess() {
+		return status == Status.SUCCESS;
+	}
+
+	/**
+	 * @return The value returned by the command when the dispatch succeeded, false otherwise.
+	 */
+	public boolean getValue() {
+		return value;
+	}
+
+	/**
+	 * @return The label of the command if the dispatch failed, null otherwise.
+	 */
+	public String getLabel() {
+		return label;
+	}
+
+	/**
+	 * @return The not found or not available argument, null otherwise.
+	 */
+	public String getArgument() {
+		return argument;
+	}
+
+	/**
+	 * @return The arguments given to the edition that did not find an argument, null otherwise.
+	 */
+	public Arguments getArguments() {
+		return arguments;
+	}
+
+	/**
+	 * Creates the exception that method <code>onCommand</code> throws for this result.
+	 *
+	 * @param writableStackTrace Whether or not the stack trace of the exception should be filled.
+	 *
+	 * @return The exception corresponding to the failure, or null if the dispatch succeeded.
+	 */
+	public MinecraftToolkitException toException(boolean writableStackTrace) {
+		switch (status) {
+		case ARGUMENT_NOT_FOUND:
+			return new ArgumentNotFoundException(label, argument, arguments.toArray(), writableStackTrace);
+		case ARGUMENT_NOT_AVAILABLE:
+			return new NotAvailableArgumentException(label, argument, writableStackTrace);
+		case COMMAND_NOT_AVAILABLE:
+			return new NotAvailableCommandException(label, writableStackTrace);
+		default:
+			return null;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return isSuccess() ? status + "=" + value : status + " " + label + " " + argument;
+	}
+}
@@ -0,0 +1,154 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import fr.pederobien.minecraftdevelopmenttoolkit.interfaces.IGenericEdition;
+
+/**
+ * Immutable index over the labels of the children of an edition, used to answer tab completions without going through every child.
+ * Labels are stored in a sorted array so that the labels starting with an argument are found with a binary search. In
+ * {@link CompletionMode#SUBSTRING} mode, the index also stores, for each sequence of {@value #GRAM_LENGTH} characters, the
+ * positions of the labels that contain it.
+ *
+ * @param <U> The type of the indexed editions.
+ */
+final class LabelIndex<U extends IGenericEdition<?>> {
+	private static final int GRAM_LENGTH = 3;
+	private final CompletionMode mode;
+	private final String[] labels;
+	private final Object[] editions;
+	private final Map<String, int[]> grams;
+
+	/**
+	 * Creates an index over the given editions.
+	 *
+	 * @param editions The editions to index.
+	 * @param mode     The way labels are matched with an argument.
+	 */
+	public LabelIndex(Collection<U> editions, CompletionMode mode) {
+		this.mode = mode;
+
+		Object[] sorted = editions.toArray();
+		Arrays.sort(sorted, (first, second) -> label(first).compareTo(label(second)));
+		this.editions = sorted;
+		labels = new String[sorted.length];
+		for (int i = 0; i < sorted.length; i++)
+			labels[i] = label(sorted[i]);
+
+		grams = mode == CompletionMode.SUBSTRING ? indexGrams(labels) : Collections.emptyMap();
+	}
+
+	/**
+	 * @return The way labels are matched with an argument.
+	 */
+	public CompletionMode getMode() {
+		return mode;
+	}
+
+	/**
+	 * @param label The label to test.
+	 * @param arg   The argument a player is typing.
+	 *
+	 * @return True if the label is matched by the argument according to the mode of this index.
+	 */
+	public boolean matches(String label, String arg) {
+		return mode == CompletionMode.PREFIX ? label.startsWith(arg) : label.contains(arg);
+	}
+
+	/**
+	 * Get the labels of the indexed editions matched by the given argument, in alphabetical order.
+	 *
+	 * @param arg    The argument a player is typing.
+	 * @param filter The condition an edition should verify to be proposed, for example being available.
+	 *
+	 * @return A new list that contains the matching labels.
+	 */
+	public List<String> complete(String arg, Predicate<? super U> filter) {
+		List<String> completions = new ArrayList<String>();
+		if (mode == CompletionMode.PREFIX)
+			completePrefix(arg, filter, completions);
+		else
+			completeSubstring(arg, filter, completions);
+		return completions;
+	}
+
+	private void completePrefix(String arg, Predicate<? super U> filter, List<String> completions) {
+		for (int i = lowerBound(arg); i < labels.length && labels[i].startsWith(arg); i++)
+			add(i, filter, completions);
+	}
+
+	private void completeSubstring(String arg, Predicate<? super U> filter, List<String> completions) {
+		// Too short to use the index, labels are short and few so a scan is cheap.
+		if (arg.length() < GRAM_LENGTH) {
+			for (int i = 0; i < labels.length; i++)
+				if (labels[i].contains(arg))
+					add(i, filter, completions);
+			return;
+		}
+
+		// Labels containing the argument contain each of its grams, the candidates are those of the least frequent gram.
+		int[] candidates = null;
+		for (int i = 0; i <= arg.length() - GRAM_LENGTH; i++) {
+			int[] positions = grams.get(arg.substring(i, i + GRAM_LENGTH));
+			if (positions == null)
+				return;
+			if (candidates == null || positions.length < candidates.length)
+				candidates = positions;
+		}
+
+		for (int position : candidates)
+			if (labels[position].contains(arg))
+				add(position, filter, completions);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void add(int position, Predicate<? super U> filter, List<String> completions) {
+		if (filter.test((U) editions[position]))
+			completions.add(labels[position]);
+	}
+
+	private int lowerBound(String arg) {
+		int low = 0, high = labels.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (labels[middle].compareTo(arg) < 0)
+				low = middle + 1;
+			else
+				high = middle;
+		}
+		return low;
+	}
+
+	private static Map<String, int[]> indexGrams(String[] labels) {
+		Map<String, List<Integer>> positions = new HashMap<String, List<Integer>>();
+		for (int i = 0; i < labels.length; i++) {
+			String label = labels[i];
+			for (int j = 0; j <= label.length() - GRAM_LENGTH; j++) {
+				List<Integer> list = positions.computeIfAbsent(label.substring(j, j + GRAM_LENGTH), gram -> new ArrayList<Integer>());
+				// A label can contain the same gram several times.
+				if (list.isEmpty() || list.get(list.size() - 1) != i)
+					list.add(i);
+			}
+		}
+
+		Map<String, int[]> grams = new HashMap<String, int[]>(positions.size() * 2);
+		for (Map.Entry<String, List<Integer>> entry : positions.entrySet()) {
+			int[] array = new int[entry.getValue().size()];
+			for (int i = 0; i < array.length; i++)
+				array[i] = entry.getValue().get(i);
+			grams.put(entry.getKey(), array);
+		}
+		return grams;
+	}
+
+	private static String label(Object edition) {
+		return ((IGenericEdition<?>) edition).getLabel();
+	}
+}
@@ -0,0 +1,54 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.impl;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Detects if a public or protected method declared in a base class is overridden by the class of an object. The result is computed
+ * once per class. It is used to keep calling the methods that take a <code>String[]</code> on editions written before their
+ * {@link fr.pederobien.minecraftdevelopmenttoolkit.utils.Arguments} overloads existed.
+ */
+final class MethodOverride {
+	private final Class<?> base;
+	private final String name;
+	private final Class<?>[] parameterTypes;
+	private final ClassValue<Boolean> overridden;
+
+	/**
+	 * Creates a detector for the given method.
+	 *
+	 * @param base           The class that declares the method.
+	 * @param name           The name of the method.
+	 * @param parameterTypes The parameter types of the method.
+	 */
+	public MethodOverride(Class<?> base, String name, Class<?>... parameterTypes) {
+		this.base = base;
+		this.name = name;
+		this.parameterTypes = parameterTypes;
+		overridden = new ClassValue<Boolean>() {
+			@Override
+			protected Boolean computeValue(Class<?> type) {
+				for (Class<?> current = type; current != null && current != MethodOverride.this.base; current = current.getSuperclass()) {
+					try {
+						Method method = current.getDeclaredMethod(MethodOverride.this.name, MethodOverride.this.parameterTypes);
+						// A private or static method with the same signature hides the method but does not override it.
+						if (!Modifier.isPrivate(method.getModifiers()) && !Modifier.isStatic(method.getModifiers()))
+							return true;
+					} catch (NoSuchMethodException e) {
+						// Not declared by this class, look at its super class.
+					}
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * @param object The object to check.
+	 *
+	 * @return True if the class of the given object, or one of its super class below the base class, overrides the method.
+	 */
+	public boolean isOverriddenBy(Object object) {
+		return overridden.get(object.getClass());
+	}
+}
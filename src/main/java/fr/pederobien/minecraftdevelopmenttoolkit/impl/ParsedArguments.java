@@ -0,0 +1,92 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.impl;
+
+/**
+ * The arguments of a command converted according to an {@link ArgumentSchema}. The arguments are converted from the first one and
+ * the conversion stops at the first argument that is not valid.
+ */
+public final class ParsedArguments {
+	private final ArgumentSchema schema;
+	private final String[] tokens;
+	private final Object[] values;
+	private final int parsed;
+
+	ParsedArguments(ArgumentSchema schema, String[] tokens, Object[] values, int parsed) {
+		this.schema = schema;
+		this.tokens = tokens;
+		this.values = values;
+		this.parsed = parsed;
+	}
+
+	/**
+	 * @return True if each argument of the schema has been given and is valid, and if there is no additional argument.
+	 */
+	public boolean isComplete() {
+		return parsed == tokens.length && tokens.length == schema.size();
+	}
+
+	/**
+	 * @return The index of the first argument that is not valid, or -1 if all the given arguments are valid.
+	 */
+	public int getErrorIndex() {
+		return parsed == tokens.length ? -1 : parsed;
+	}
+
+	/**
+	 * @return The number of given arguments.
+	 */
+	public int length() {
+		return tokens.length;
+	}
+
+	/**
+	 * @param index The index of the argument.
+	 *
+	 * @return The argument typed by the player.
+	 *
+	 * @throws ArrayIndexOutOfBoundsException If the index is negative or not less than {@link #length()}.
+	 */
+	public String getRaw(int index) {
+		return tokens[index];
+	}
+
+	/**
+	 * @param <A>   The type of the converted argument.
+	 * @param index The index of the argument.
+	 *
+	 * @return The converted argument or null if the argument has not been given or is not valid.
+	 */
+	@SuppressWarnings("unchecked")
+	public <A> A get(int index) {
+		return index < parsed ? (A) values[index] : null;
+	}
+
+	/**
+	 * @param <A>  The type of the converted argument.
+	 * @param name The name of the argument in the schema.
+	 *
+	 * @return The converted argument or null if the argument has not been given or is not valid.
+	 *
+	 * @throws IllegalArgumentException If the schema does not contain an argument with the given name.
+	 */
+	public <A> A get(String name) {
+		return get(schema.indexOf(name));
+	}
+
+	/**
+	 * @param index The index of the argument.
+	 *
+	 * @return True if the given token, at the given index, is the same as the one that has been converted.
+	 */
+	boolean isParsed(int index, String token) {
+		return index < parsed && tokens[index].equals(token);
+	}
+
+	/**
+	 * @param index The index of a converted argument.
+	 *
+	 * @return The converted argument.
+	 */
+	Object getValue(int index) {
+		return values[index];
+	}
+}
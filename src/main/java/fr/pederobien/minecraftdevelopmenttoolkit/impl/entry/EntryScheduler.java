@@ -0,0 +1,272 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.impl.entry;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Updates score board entries on the main thread according to their frequency, without spending more than a given time per tick.
+ * The entries updated every second are spread over the 20 ticks of a second, and the updates that do not fit in the budget of a tick
+ * are done on the next ticks. At least one update is done per tick, so that an entry more expensive than the budget is still
+ * updated.
+ * <p>
+ * This scheduler is not thread safe, all its methods should be called on the main thread.
+ */
+public class EntryScheduler {
+	private static final int TICKS_PER_SECOND = 20;
+
+	private final Plugin plugin;
+	private final Map<ToolkitEntry, Scheduled> entries;
+	private final Deque<Scheduled> queue;
+	private long budget, tick, deferred;
+	private int phase;
+	private BukkitTask task;
+
+	/**
+	 * Creates a scheduler of entries.
+	 *
+	 * @param plugin The plugin used to register the task of this scheduler.
+	 * @param budget The maximum time, in nanoseconds, spent to update entries during one tick.
+	 */
+	public EntryScheduler(Plugin plugin, long budget) {
+		this.plugin = plugin;
+		setBudget(budget);
+		entries = new IdentityHashMap<ToolkitEntry, Scheduled>();
+		queue = new ArrayDeque<Scheduled>();
+	}
+
+	/**
+	 * The frequency at which an entry is updated.
+	 */
+	public enum Frequency {
+		/**
+		 * The entry is updated at each tick.
+		 */
+		EVERY_TICK,
+
+		/**
+		 * The entry is updated once per second.
+		 */
+		EVERY_SECOND,
+
+		/**
+		 * The entry is only updated when {@link EntryScheduler#requestUpdate(ToolkitEntry)} is called.
+		 */
+		ON_EVENT
+	}
+
+	/**
+	 * Register an entry to update. If the entry is already registered, its frequency and its update are replaced.
+	 *
+	 * @param entry     The entry to update.
+	 * @param frequency The frequency at which the entry is updated.
+	 * @param update    The action that updates the entry on the player's score board.
+	 */
+	public void schedule(ToolkitEntry entry, Frequency frequency, Runnable update) {
+		Scheduled scheduled = new Scheduled(entry, frequency, update, phase++ % TICKS_PER_SECOND);
+		Scheduled previous = entries.put(entry, scheduled);
+		if (previous != null)
+			previous.isCancelled = true;
+	}
+
+	/**
+	 * Unregister an entry, it is no longer updated by this scheduler.
+	 *
+	 * @param entry The entry to unregister.
+	 */
+	public void unschedule(ToolkitEntry entry) {
+		Scheduled scheduled = entries.remove(entry);
+		if (scheduled != null)
+			scheduled.isCancelled = true;
+	}
+
+	/**
+	 * Ask for the update of the given entry during the next tick, whatever its frequency.
+	 *
+	 * @param entry The entry to update.
+	 */
+	public void requestUpdate(ToolkitEntry entry) {
+		Scheduled scheduled = entries.get(entry);
+		if (scheduled != null)
+			enqueue(scheduled);
+	}
+
+	/**
+	 * Start to update the registered entries at each tick. If this scheduler is already started, nothing happens.
+	 */
+	public void start() {
+		if (task == null)
+			task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1, 1);
+	}
+
+	/**
+	 * Stop to update the registered entries.
+	 */
+	public void stop() {
+		if (task != null)
+			task.cancel();
+		task = null;
+	}
+
+	/**
+	 * @param budget The maximum time, in nanoseconds, spent to update entries during one tick.
+	 */
+	public void setBudget(long budget) {
+		if (budget < 0)
+			throw new IllegalArgumentException("The budget should be positive");
+		this.budget = budget;
+	}
+
+	/**
+	 * @return The maximum time, in nanoseconds, spent to update entries during one tick.
+	 */
+	public long getBudget() {
+		return budget;
+	}
+
+	/**
+	 * @return The number of updates postponed to a later tick because the budget of their tick had been spent. An update that waits for
+	 *         several ticks is counted once.
+	 */
+	public long getDeferredCount() {
+		return deferred;
+	}
+
+	/**
+	 * @return The number of updates waiting for the next tick.
+	 */
+	public int getPendingCount() {
+		return queue.size();
+	}
+
+	/**
+	 * @param entry The entry whose updates have been measured.
+	 *
+	 * @return The cost of the updates of the given entry, or null if it is not registered.
+	 */
+	public Metrics getMetrics(ToolkitEntry entry) {
+		Scheduled scheduled = entries.get(entry);
+		return scheduled == null ? null : scheduled.metrics;
+	}
+
+	/**
+	 * @return An unmodifiable view of the cost of the updates of each registered entry.
+	 */
+	public Map<ToolkitEntry, Metrics> getMetrics() {
+		Map<ToolkitEntry, Metrics> metrics = new IdentityHashMap<ToolkitEntry, Metrics>();
+		for (Scheduled scheduled : entries.values())
+			metrics.put(scheduled.entry, scheduled.metrics);
+		return Collections.unmodifiableMap(metrics);
+	}
+
+	/**
+	 * Enqueue the entries due during this tick, then update as many pending entries as possible within the budget.
+	 */
+	public void tick() {
+		int second = (int) (tick++ % TICKS_PER_SECOND);
+		for (Scheduled scheduled : entries.values())
+			if (scheduled.frequency == Frequency.EVERY_TICK || scheduled.frequency == Frequency.EVERY_SECOND && scheduled.phase == second)
+				enqueue(scheduled);
+
+		long start = System.nanoTime();
+		Scheduled scheduled;
+		boolean isFirst = true;
+		while ((scheduled = queue.peekFirst()) != null) {
+			long now = System.nanoTime();
+			if (!isFirst && now - start >= budget)
+				break;
+
+			queue.pollFirst();
+			scheduled.isQueued = false;
+			scheduled.isDeferred = false;
+			if (scheduled.isCancelled)
+				continue;
+
+			scheduled.update.run();
+			scheduled.metrics.record(System.nanoTime() - now);
+			isFirst = false;
+		}
+
+		// An update is counted once, during the first tick it misses. The updates that already missed a tick are at the head of the queue.
+		for (Iterator<Scheduled> iterator = queue.descendingIterator(); iterator.hasNext();) {
+			Scheduled pending = iterator.next();
+			if (pending.isDeferred)
+				break;
+			pending.isDeferred = true;
+			if (!pending.isCancelled)
+				deferred++;
+		}
+	}
+
+	private void enqueue(Scheduled scheduled) {
+		if (scheduled.isQueued)
+			return;
+		scheduled.isQueued = true;
+		queue.addLast(scheduled);
+	}
+
+	/**
+	 * Cost of the updates of an entry.
+	 */
+	public static class Metrics {
+		private long count, total, max;
+
+		private void record(long duration) {
+			count++;
+			total += duration;
+			max = Math.max(max, duration);
+		}
+
+		/**
+		 * @return The number of updates of the entry.
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		/**
+		 * @return The total time, in nanoseconds, spent to update the entry.
+		 */
+		public long getTotalTime() {
+			return total;
+		}
+
+		/**
+		 * @return The average time, in nanoseconds, spent to update the entry, 0 if it has never been updated.
+		 */
+		public long getAverageTime() {
+			return count == 0 ? 0 : total / count;
+		}
+
+		/**
+		 * @return The longest time, in nanoseconds, spent to update the entry.
+		 */
+		public long getMaxTime() {
+			return max;
+		}
+	}
+
+	private static class Scheduled {
+		private final ToolkitEntry entry;
+		private final Frequency frequency;
+		private final Runnable update;
+		private final int phase;
+		private final Metrics metrics;
+		private boolean isQueued, isDeferred, isCancelled;
+
+		private Scheduled(ToolkitEntry entry, Frequency frequency, Runnable update, int phase) {
+			this.entry = entry;
+			this.frequency = frequency;
+			this.update = update;
+			this.phase = phase;
+			metrics = new Metrics();
+		}
+	}
+}
@@ -0,0 +1,47 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.impl.entry;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Pool of the strings displayed by score board entries, so that equal messages displayed by several entries are stored only once.
+ * The strings are weakly referenced: a string is removed from the pool once no entry displays it anymore.
+ */
+public final class StringPool {
+	private static final Map<String, WeakReference<String>> POOL = new WeakHashMap<String, WeakReference<String>>();
+
+	private StringPool() {
+	}
+
+	/**
+	 * Get the string of the pool equal to the given string. If there is no such string, the given string is added to the pool.
+	 *
+	 * @param value The string to find in the pool.
+	 *
+	 * @return The string of the pool equal to the given string, or null if the given string is null.
+	 */
+	public static String intern(String value) {
+		if (value == null)
+			return null;
+
+		synchronized (POOL) {
+			WeakReference<String> reference = POOL.get(value);
+			String pooled = reference == null ? null : reference.get();
+			if (pooled != null)
+				return pooled;
+
+			POOL.put(value, new WeakReference<String>(value));
+			return value;
+		}
+	}
+
+	/**
+	 * @return The number of strings in the pool, including the strings that are no longer used but have not been removed yet.
+	 */
+	public static int size() {
+		synchronized (POOL) {
+			return POOL.size();
+		}
+	}
+}
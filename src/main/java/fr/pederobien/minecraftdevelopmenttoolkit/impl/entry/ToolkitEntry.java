@@ -1,5 +1,8 @@
 package fr.pederobien.minecraftdevelopmenttoolkit.impl.entry;
 
+import java.util.Arrays;
+import java.util.Objects;
+
 import org.bukkit.entity.Player;
 
 import fr.pederobien.minecraftdictionary.impl.MinecraftMessageEvent;
@@ -8,7 +11,12 @@ import fr.pederobien.minecraftdictionary.interfaces.IMinecraftNotificationCenter
 import fr.pederobien.minecraftscoreboards.impl.AbstractEntry;
 
 public abstract class ToolkitEntry extends AbstractEntry {
-	private String before, after;
+	private static final Object[] NO_ARGUMENTS = new Object[0];
+	private Translation before, after;
+	private String lineBefore, lineValue, lineAfter;
+	private int lineHash;
+	private long version;
+	private boolean isLineValid;
 
 	/**
 	 * Constructs an entry that propose methods to display player language sensitive messages.
@@ -17,6 +25,8 @@ public abstract class ToolkitEntry extends AbstractEntry {
 	 */
 	protected ToolkitEntry(int score) {
 		super(score);
+		before = new Translation();
+		after = new Translation();
 	}
 
 	/**
@@ -34,9 +44,9 @@ public abstract class ToolkitEntry extends AbstractEntry {
 		IMinecraftMessageCode code = getBeforeAsCode(getPlayer());
 		if (code == null)
 			return "";
-		if (before == null || !isBeforeConstant())
-			before = getNotificationCenter().getMessage(new MinecraftMessageEvent(getPlayer(), code));
-		return before;
+		if (before.message == null || !isBeforeConstant())
+			translate(before, code, getBeforeArguments(getPlayer()));
+		return before.message;
 	}
 
 	/**
@@ -48,9 +58,9 @@ public abstract class ToolkitEntry extends AbstractEntry {
 		IMinecraftMessageCode code = getAfterAsCode(getPlayer());
 		if (code == null)
 			return "";
-		if (after == null || !isAfterConstant())
-			after = getNotificationCenter().getMessage(new MinecraftMessageEvent(getPlayer(), code));
-		return after;
+		if (after.message == null || !isAfterConstant())
+			translate(after, code, getAfterArguments(getPlayer()));
+		return after.message;
 	}
 
 	/**
@@ -83,6 +93,42 @@ public abstract class ToolkitEntry extends AbstractEntry {
 		return null;
 	}
 
+	/**
+	 * Get the arguments of the message associated to the code returned by {@link #getBeforeAsCode(Player)}. If not overridden, this
+	 * method returns an empty array.
+	 * 
+	 * @param player The player whose score board is updated.
+	 * @return The arguments used for dynamic messages.
+	 */
+	protected Object[] getBeforeArguments(Player player) {
+		return NO_ARGUMENTS;
+	}
+
+	/**
+	 * Get the arguments of the message associated to the code returned by {@link #getAfterAsCode(Player)}. If not overridden, this
+	 * method returns an empty array.
+	 * 
+	 * @param player The player whose score board is updated.
+	 * @return The arguments used for dynamic messages.
+	 */
+	protected Object[] getAfterArguments(Player player) {
+		return NO_ARGUMENTS;
+	}
+
+	/**
+	 * Get the cache used to share translated messages between entries. A cached message is only translated again once the cache is
+	 * {@link TranslationCache#clear() cleared}, so a plugin that returns a cache should clear it each time a dictionary is registered,
+	 * unregistered or reloaded, otherwise the entries keep displaying the previous messages.
+	 * 
+	 * @return The cache used to share translated messages between entries, or null to translate the messages of this entry each time
+	 *         they are updated. If not overridden, this method returns null.
+	 * 
+	 * @see TranslationCache#getShared()
+	 */
+	protected TranslationCache getTranslationCache() {
+		return null;
+	}
+
 	/**
 	 * Method used to know if when this entry is updated, the message associated to the code returned by method
 	 * {@link #getBeforeAsCode(Player)} should be also updated. In other words, if this method returns true, then this entry search in
@@ -104,4 +150,96 @@ public abstract class ToolkitEntry extends AbstractEntry {
 	protected boolean isAfterConstant() {
 		return true;
 	}
+
+	/**
+	 * Compare the line made of {@link #getBefore()}, the given value and {@link #getAfter()} with the line given the last time this
+	 * method was called. If it is different, the version of this entry is incremented. A score board updater can use this method to
+	 * only send the lines that have changed since the previous update.
+	 * 
+	 * @param value The value of this entry, displayed between the before and the after messages.
+	 * 
+	 * @return True if the line has changed since the last call, false otherwise.
+	 */
+	public boolean updateLine(String value) {
+		String before = getBefore(), after = getAfter();
+		// Translated messages come from the string pool, they are compared by identity before being compared by value.
+		if (isLineValid && Objects.equals(before, lineBefore) && Objects.equals(value, lineValue) && Objects.equals(after, lineAfter))
+			return false;
+
+		lineBefore = before;
+		lineValue = value;
+		lineAfter = after;
+		lineHash = hash(hash(hash(0, before), value), after);
+		isLineValid = true;
+		version++;
+		return true;
+	}
+
+	/**
+	 * @return The number of times the line of this entry has changed, 0 if {@link #updateLine(String)} has never been called.
+	 */
+	public long getVersion() {
+		return version;
+	}
+
+	/**
+	 * @return The hash code of the last line given to {@link #updateLine(String)}, equal to the hash code of the concatenation of the
+	 *         before message, the value and the after message.
+	 */
+	public int getLineHash() {
+		return lineHash;
+	}
+
+	/**
+	 * Forget the last line of this entry, so that the next call to {@link #updateLine(String)} reports a change. It is useful when the
+	 * score board has been displayed again from scratch.
+	 */
+	public void invalidateLine() {
+		isLineValid = false;
+	}
+
+	private void translate(Translation translation, IMinecraftMessageCode code, Object[] args) {
+		Player player = getPlayer();
+		TranslationCache cache = getTranslationCache();
+		if (cache == null) {
+			translation.message = share(translation.message, getNotificationCenter().getMessage(new MinecraftMessageEvent(player, code, args)));
+			return;
+		}
+
+		// Nothing has changed since the last update, the message is still valid.
+		String locale = player.getLocale();
+		if (translation.message != null && translation.code == code && translation.generation == cache.getGeneration()
+				&& Objects.equals(translation.locale, locale) && Arrays.equals(translation.args, args))
+			return;
+
+		translation.generation = cache.getGeneration();
+		translation.message = share(translation.message, cache.getMessage(getNotificationCenter(), player, code, args));
+		translation.code = code;
+		translation.locale = locale;
+		translation.args = args.length == 0 ? NO_ARGUMENTS : args.clone();
+	}
+
+	/**
+	 * Get the string to keep for a translated message. If the message has not changed, the previous string is kept so that the string
+	 * pool, shared by all the entries, is only locked when the message is really updated.
+	 */
+	private static String share(String previous, String message) {
+		return message != null && message.equals(previous) ? previous : StringPool.intern(message);
+	}
+
+	private static int hash(int hash, String part) {
+		if (part == null)
+			return hash;
+		for (int i = 0; i < part.length(); i++)
+			hash = 31 * hash + part.charAt(i);
+		return hash;
+	}
+
+	private static class Translation {
+		private IMinecraftMessageCode code;
+		private String locale;
+		private Object[] args;
+		private long generation;
+		private String message;
+	}
 }
@@ -0,0 +1,141 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.impl.entry;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.bukkit.entity.Player;
+
+import fr.pederobien.minecraftdictionary.impl.MinecraftMessageEvent;
+import fr.pederobien.minecraftdictionary.interfaces.IMinecraftMessageCode;
+import fr.pederobien.minecraftdictionary.interfaces.IMinecraftNotificationCenter;
+
+/**
+ * Cache of translated messages, by notification center, code, locale and arguments. When the cache is full, the least recently used
+ * message is removed.
+ */
+public class TranslationCache {
+	private static final TranslationCache SHARED = new TranslationCache(1024);
+
+	private final int capacity;
+	private final Map<Key, String> messages;
+	private volatile long generation;
+
+	/**
+	 * Creates a cache of translated messages.
+	 *
+	 * @param capacity The maximum number of messages in this cache.
+	 */
+	public TranslationCache(int capacity) {
+		if (capacity < 1)
+			throw new IllegalArgumentException("The capacity should be strictly positive");
+		this.capacity = capacity;
+		messages = new LinkedHashMap<Key, String>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+				return size() > TranslationCache.this.capacity;
+			}
+		};
+	}
+
+	/**
+	 * @return A cache that can be shared by the entries of a plugin, the entries use it only if they return it from
+	 *         {@link ToolkitEntry#getTranslationCache()}.
+	 */
+	public static TranslationCache getShared() {
+		return SHARED;
+	}
+
+	/**
+	 * Get the message associated to the given code in the language of the given player. The message is only translated by the
+	 * notification center if it is not in this cache.
+	 *
+	 * @param center The notification center used to translate the message.
+	 * @param player The player used to get the language of the message.
+	 * @param code   Used as key to get the right message in the right dictionary.
+	 * @param args   Some arguments (optional) used for dynamic messages.
+	 *
+	 * @return The translated message.
+	 */
+	public String getMessage(IMinecraftNotificationCenter center, Player player, IMinecraftMessageCode code, Object... args) {
+		Key key = new Key(center, code, player.getLocale(), args);
+		String message;
+		synchronized (messages) {
+			message = messages.get(key);
+		}
+		if (message != null)
+			return message;
+
+		message = center.getMessage(new MinecraftMessageEvent(player, code, args));
+		if (message != null) {
+			// The arguments are copied since the caller may modify its array afterwards.
+			key = new Key(center, code, player.getLocale(), args.clone());
+			synchronized (messages) {
+				messages.put(key, message);
+			}
+		}
+		return message;
+	}
+
+	/**
+	 * @return The number of messages in this cache.
+	 */
+	public int size() {
+		synchronized (messages) {
+			return messages.size();
+		}
+	}
+
+	/**
+	 * @return The number of times this cache has been cleared. Messages kept outside of this cache are no longer valid when it
+	 *         changes.
+	 */
+	public long getGeneration() {
+		return generation;
+	}
+
+	/**
+	 * Remove all the messages of this cache, for instance after a dictionary has been registered or unregistered.
+	 */
+	public void clear() {
+		synchronized (messages) {
+			messages.clear();
+			generation++;
+		}
+	}
+
+	private static class Key {
+		private final IMinecraftNotificationCenter center;
+		private final IMinecraftMessageCode code;
+		private final String locale;
+		private final Object[] args;
+		private final int hashCode;
+
+		private Key(IMinecraftNotificationCenter center, IMinecraftMessageCode code, String locale, Object[] args) {
+			this.center = center;
+			this.code = code;
+			this.locale = locale;
+			this.args = args;
+			hashCode = 31 * (31 * (31 * System.identityHashCode(center) + code.hashCode()) + Objects.hashCode(locale)) + Arrays.hashCode(args);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof Key))
+				return false;
+
+			Key other = (Key) obj;
+			return center == other.center && code.equals(other.code) && Objects.equals(locale, other.locale) && Arrays.equals(args, other.args);
+		}
+	}
+}
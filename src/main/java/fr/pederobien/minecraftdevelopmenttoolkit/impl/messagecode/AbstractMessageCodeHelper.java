@@ -1,6 +1,13 @@
 package fr.pederobien.minecraftdevelopmenttoolkit.impl.messagecode;
 
+import java.util.List;
+import java.util.StringJoiner;
+
+import org.bukkit.entity.Player;
+
 import fr.pederobien.minecraftdevelopmenttoolkit.impl.AbstractHelper;
+import fr.pederobien.minecraftdevelopmenttoolkit.interfaces.IGenericEdition;
+import fr.pederobien.minecraftdevelopmenttoolkit.interfaces.messagecode.ICodeSender;
 import fr.pederobien.minecraftdevelopmenttoolkit.interfaces.messagecode.IMessageCodeHelper;
 import fr.pederobien.minecraftdevelopmenttoolkit.interfaces.messagecode.IMessageCodeMapEdition;
 import fr.pederobien.minecraftdevelopmenttoolkit.interfaces.messagecode.IMessageCodeParentEdition;
@@ -12,4 +19,41 @@ public abstract class AbstractMessageCodeHelper<U, V extends IMessageCodeParentE
 	public AbstractMessageCodeHelper(IMinecraftMessageCode explanation) {
 		super(explanation);
 	}
+
+	/**
+	 * Translates the explanation of each edition in the language of the player, using the notification center of the first edition
+	 * that is a {@link ICodeSender}, and joins the lines returned by {@link #format(IGenericEdition, String)}. The message is kept for
+	 * the locale of the player, so that the explanations are translated once per locale until the tree is modified. If none of the
+	 * editions is a code sender, this method returns null and the editions are given to {@link #sendMessage(Player, List)}.
+	 */
+	@Override
+	protected String render(Player player, List<IGenericEdition<IMinecraftMessageCode>> editions) {
+		ICodeSender sender = null;
+		for (IGenericEdition<IMinecraftMessageCode> edition : editions)
+			if (edition instanceof ICodeSender) {
+				sender = (ICodeSender) edition;
+				break;
+			}
+
+		if (sender == null)
+			return null;
+
+		StringJoiner joiner = new StringJoiner("\n");
+		for (IGenericEdition<IMinecraftMessageCode> edition : editions)
+			joiner.add(format(edition, sender.getMessage(player, edition.getExplanation())));
+		return joiner.toString();
+	}
+
+	/**
+	 * Get the line that displays the explanation of the given edition in the help message. If not overridden, the line is made of
+	 * the label of the edition followed by its explanation.
+	 *
+	 * @param edition     The edition to explain.
+	 * @param explanation The explanation of the edition, translated in the language of the player.
+	 *
+	 * @return The line that displays the explanation of the edition.
+	 */
+	protected String format(IGenericEdition<IMinecraftMessageCode> edition, String explanation) {
+		return edition.getLabel() + " - " + explanation;
+	}
 }
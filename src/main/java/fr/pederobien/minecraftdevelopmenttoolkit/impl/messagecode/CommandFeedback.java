@@ -0,0 +1,134 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.impl.messagecode;
+
+import org.bukkit.Bukkit;
+import org.bukkit.GameRule;
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerCommandPreprocessEvent;
+import org.bukkit.event.server.ServerCommandEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import fr.pederobien.minecraftmanagers.WorldManager;
+
+/**
+ * Snapshot of the game rule {@link GameRule#SEND_COMMAND_FEEDBACK} used by the code senders to know if messages should be sent.
+ * As long as it is not {@link #start(Plugin, long) started}, the game rule is read each time it is requested. Once started, the
+ * value is refreshed periodically and after each <code>gamerule</code> command, and reading it no longer requires a world lookup.
+ */
+public final class CommandFeedback {
+	private static volatile boolean isEnabled = true;
+	private static volatile World world;
+	private static volatile Plugin plugin;
+	private static BukkitTask task;
+	private static Listener listener;
+
+	private CommandFeedback() {
+	}
+
+	/**
+	 * @return The value of the game rule {@link GameRule#SEND_COMMAND_FEEDBACK} of the controlling world.
+	 */
+	public static boolean isEnabled() {
+		return plugin == null ? read() : isEnabled;
+	}
+
+	/**
+	 * Set the world whose game rule {@link GameRule#SEND_COMMAND_FEEDBACK} controls whether messages are sent. By default, it is the
+	 * overworld.
+	 *
+	 * @param world The controlling world, or null for the overworld.
+	 */
+	public static void setWorld(World world) {
+		CommandFeedback.world = world;
+		refresh();
+	}
+
+	/**
+	 * @return The world whose game rule controls whether messages are sent.
+	 */
+	public static World getWorld() {
+		World current = world;
+		return current == null ? WorldManager.OVERWORLD : current;
+	}
+
+	/**
+	 * Start to cache the value of the game rule. The value is refreshed every <code>period</code> ticks and on the tick following a
+	 * <code>gamerule</code> command sent by a player or by the console. If the cache has already been started, the previous refresh
+	 * task is cancelled and the command listener is registered again for the given plugin.
+	 *
+	 * @param plugin The plugin used to register the refresh task and the command listener.
+	 * @param period The number of ticks between two refreshes.
+	 */
+	public static synchronized void start(Plugin plugin, long period) {
+		if (period < 1)
+			throw new IllegalArgumentException("The period should be strictly positive");
+		if (task != null)
+			task.cancel();
+
+		// The listener of a previous call may belong to another plugin, or to a previous enabling of the same plugin.
+		if (listener != null)
+			HandlerList.unregisterAll(listener);
+
+		refresh();
+		task = Bukkit.getScheduler().runTaskTimer(plugin, CommandFeedback::refresh, period, period);
+		listener = new GameRuleListener();
+		Bukkit.getPluginManager().registerEvents(listener, plugin);
+		CommandFeedback.plugin = plugin;
+	}
+
+	/**
+	 * Stop to cache the value of the game rule and unregister the command listener. The game rule is read each time it is requested
+	 * again. It should be called when the plugin given to {@link #start(Plugin, long)} is disabled.
+	 */
+	public static synchronized void stop() {
+		if (task != null)
+			task.cancel();
+		if (listener != null)
+			HandlerList.unregisterAll(listener);
+		task = null;
+		listener = null;
+		plugin = null;
+	}
+
+	/**
+	 * Read the game rule from the controlling world and update the cached value.
+	 */
+	public static void refresh() {
+		isEnabled = read();
+	}
+
+	private static boolean read() {
+		Boolean value = getWorld().getGameRuleValue(GameRule.SEND_COMMAND_FEEDBACK);
+		return value == null || value;
+	}
+
+	private static void onCommand(String command) {
+		Plugin current = plugin;
+		if (current == null)
+			return;
+
+		int start = command.startsWith("/") ? 1 : 0;
+		int end = command.indexOf(' ', start);
+		String label = command.substring(start, end < 0 ? command.length() : end);
+		if (label.equalsIgnoreCase("gamerule") || label.equalsIgnoreCase("minecraft:gamerule"))
+			// The command has not been executed yet, the game rule is read on the next tick.
+			Bukkit.getScheduler().runTask(current, CommandFeedback::refresh);
+	}
+
+	private static class GameRuleListener implements Listener {
+
+		@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+		public void onPlayerCommand(PlayerCommandPreprocessEvent event) {
+			onCommand(event.getMessage());
+		}
+
+		@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+		public void onServerCommand(ServerCommandEvent event) {
+			onCommand(event.getCommand());
+		}
+	}
+}
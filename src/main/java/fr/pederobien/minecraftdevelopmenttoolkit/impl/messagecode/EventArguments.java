@@ -0,0 +1,133 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.impl.messagecode;
+
+import org.bukkit.entity.Player;
+
+import fr.pederobien.minecraftdevelopmenttoolkit.interfaces.messagecode.ICodeSender;
+import fr.pederobien.minecraftdictionary.interfaces.IMinecraftMessageCode;
+import fr.pederobien.minecraftmanagers.MessageManager.DisplayOption;
+
+/**
+ * Reusable arrays of arguments for message events, confined to the thread that acquired them. They avoid allocating an array each
+ * time a message with a small number of arguments is sent. The array returned by {@link #of(Object)} or {@link #of(Object, Object)}
+ * is only valid until {@link #release()} is called, so it should only be given to an event that is consumed before the release.
+ * <p>
+ * If a message is sent while another one is being sent on the same thread (for instance by an event listener), the nested call gets
+ * its own arrays.
+ */
+public final class EventArguments {
+	private static final ThreadLocal<EventArguments> BUFFERS = ThreadLocal.withInitial(EventArguments::new);
+	// The JDK already shares the boxes of the values between -128 and 127, the boxes of the next values are shared here.
+	private static final int CACHE_LOW = 128, CACHE_HIGH = 1024;
+	private static final Integer[] INTEGERS = new Integer[CACHE_HIGH - CACHE_LOW];
+	private static final Long[] LONGS = new Long[CACHE_HIGH - CACHE_LOW];
+
+	static {
+		for (int i = 0; i < INTEGERS.length; i++) {
+			INTEGERS[i] = Integer.valueOf(CACHE_LOW + i);
+			LONGS[i] = Long.valueOf(CACHE_LOW + i);
+		}
+	}
+
+	private final Object[] one;
+	private final Object[] two;
+	private boolean isInUse;
+
+	private EventArguments() {
+		one = new Object[1];
+		two = new Object[2];
+	}
+
+	/**
+	 * @return The arguments of the current thread, or new arguments if those of the current thread are already in use.
+	 */
+	public static EventArguments acquire() {
+		EventArguments arguments = BUFFERS.get();
+		if (arguments.isInUse)
+			return new EventArguments();
+		arguments.isInUse = true;
+		return arguments;
+	}
+
+	/**
+	 * Send a message with one argument to the given player, using the arguments of the current thread. The array of the event is
+	 * cleared once the sender has sent the message, so the notification center must not keep the event after its
+	 * {@code sendMessage} method returns. If the message is delayed by the {@link ICodeSender#getMessageCoalescer() coalescer} of
+	 * the sender, the event gets its own array.
+	 *
+	 * @param sender        The sender of the message.
+	 * @param player        The player that receives the message.
+	 * @param code          Used as key to get the right message in the right dictionary.
+	 * @param displayOption The place where the message should be displayed on player screen, or null for the default place.
+	 * @param value         The argument of the message.
+	 */
+	public static void send(ICodeSender sender, Player player, IMinecraftMessageCode code, DisplayOption displayOption, Object value) {
+		if (displayOption != null && sender.getMessageCoalescer() != null) {
+			sender.send(player, displayOption, sender.event(player, code, displayOption, value));
+			return;
+		}
+
+		EventArguments arguments = acquire();
+		try {
+			Object[] args = arguments.of(value);
+			sender.send(displayOption == null ? sender.event(player, code, args) : sender.event(player, code, displayOption, args));
+		} finally {
+			arguments.release();
+		}
+	}
+
+	/**
+	 * Box the given value. The boxes of the values between -128 and 1023 are shared, so that sending a count, a score or a time does
+	 * not allocate a new object in most cases.
+	 *
+	 * @param value The value to box.
+	 *
+	 * @return The boxed value.
+	 */
+	public static Integer box(int value) {
+		return value >= CACHE_LOW && value < CACHE_HIGH ? INTEGERS[value - CACHE_LOW] : Integer.valueOf(value);
+	}
+
+	/**
+	 * Box the given value. The boxes of the values between -128 and 1023 are shared, so that sending a count, a score or a time does
+	 * not allocate a new object in most cases.
+	 *
+	 * @param value The value to box.
+	 *
+	 * @return The boxed value.
+	 */
+	public static Long box(long value) {
+		return value >= CACHE_LOW && value < CACHE_HIGH ? LONGS[(int) value - CACHE_LOW] : Long.valueOf(value);
+	}
+
+	/**
+	 * @param first The only argument.
+	 *
+	 * @return The reusable array that contains the given argument.
+	 */
+	public Object[] of(Object first) {
+		one[0] = first;
+		return one;
+	}
+
+	/**
+	 * @param first  The first argument.
+	 * @param second The second argument.
+	 *
+	 * @return The reusable array that contains the given arguments.
+	 */
+	public Object[] of(Object first, Object second) {
+		two[0] = first;
+		two[1] = second;
+		return two;
+	}
+
+	/**
+	 * Clear the arrays, so that they do not retain the arguments, and give them back to the current thread.
+	 */
+	public void release() {
+		one[0] = null;
+		two[0] = null;
+		two[1] = null;
+		isInUse = false;
+	}
+}
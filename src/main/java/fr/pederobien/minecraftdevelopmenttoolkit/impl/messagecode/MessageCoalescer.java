@@ -0,0 +1,117 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.impl.messagecode;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import fr.pederobien.minecraftmanagers.MessageManager.DisplayOption;
+
+/**
+ * Delays the messages displayed in the action bar, the title or the subtitle of a player until the next tick, so that only the
+ * latest message of each place is sent when several messages are sent to the same place during the same tick. Chat messages are
+ * never delayed since each of them remains visible.
+ */
+public class MessageCoalescer {
+	private final Plugin plugin;
+	private final Map<UUID, Map<DisplayOption, Runnable>> pending;
+	private final LongAdder submitted, dropped, flushed;
+	private boolean isFlushScheduled;
+
+	/**
+	 * Creates a coalescer.
+	 *
+	 * @param plugin The plugin used to schedule the sending of the messages on the next tick.
+	 */
+	public MessageCoalescer(Plugin plugin) {
+		this.plugin = plugin;
+		pending = new LinkedHashMap<UUID, Map<DisplayOption, Runnable>>();
+		submitted = new LongAdder();
+		dropped = new LongAdder();
+		flushed = new LongAdder();
+	}
+
+	/**
+	 * Submits a message for the given player. If the message is displayed in the chat, it is sent immediately. Otherwise it is sent
+	 * on the next tick, unless another message is submitted for the same player and the same place before.
+	 *
+	 * @param player        The player that receives the message.
+	 * @param displayOption The place where the message is displayed on player screen.
+	 * @param delivery      The action that sends the message.
+	 */
+	public void submit(Player player, DisplayOption displayOption, Runnable delivery) {
+		submitted.increment();
+		if (displayOption == null || displayOption == DisplayOption.CHAT) {
+			flushed.increment();
+			delivery.run();
+			return;
+		}
+
+		synchronized (pending) {
+			Map<DisplayOption, Runnable> slots = pending.computeIfAbsent(player.getUniqueId(), uuid -> new EnumMap<DisplayOption, Runnable>(DisplayOption.class));
+			if (slots.put(displayOption, delivery) != null)
+				dropped.increment();
+
+			if (!isFlushScheduled) {
+				isFlushScheduled = true;
+				Bukkit.getScheduler().runTask(plugin, this::flush);
+			}
+		}
+	}
+
+	/**
+	 * Sends immediately the latest message of each place of each player.
+	 */
+	public void flush() {
+		List<Runnable> deliveries = new ArrayList<Runnable>();
+		synchronized (pending) {
+			for (Map<DisplayOption, Runnable> slots : pending.values())
+				deliveries.addAll(slots.values());
+			pending.clear();
+			isFlushScheduled = false;
+		}
+
+		for (Runnable delivery : deliveries) {
+			flushed.increment();
+			delivery.run();
+		}
+	}
+
+	/**
+	 * @return The number of messages submitted to this coalescer.
+	 */
+	public long getSubmittedCount() {
+		return submitted.sum();
+	}
+
+	/**
+	 * @return The number of messages that have not been sent because a newer message has been submitted for the same player and the
+	 *         same place during the same tick.
+	 */
+	public long getDroppedCount() {
+		return dropped.sum();
+	}
+
+	/**
+	 * @return The number of messages that have been sent.
+	 */
+	public long getFlushedCount() {
+		return flushed.sum();
+	}
+
+	/**
+	 * Set the counters of this coalescer to zero.
+	 */
+	public void resetMetrics() {
+		submitted.reset();
+		dropped.reset();
+		flushed.reset();
+	}
+}
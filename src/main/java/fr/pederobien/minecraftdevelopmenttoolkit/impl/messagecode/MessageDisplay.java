@@ -0,0 +1,101 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.impl.messagecode;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+
+import fr.pederobien.minecraftmanagers.EColor;
+import fr.pederobien.minecraftmanagers.MessageManager;
+import fr.pederobien.minecraftmanagers.MessageManager.DisplayOption;
+import net.md_5.bungee.api.ChatMessageType;
+import net.md_5.bungee.api.chat.TextComponent;
+
+/**
+ * Displays an already translated message on the screen of a player, with the modifiers of a message event. It is the default
+ * display of the messages translated on worker threads by a {@link MessagePipeline}, that are not sent through the notification
+ * center. It does not reproduce how a notification center displays its messages: a plugin whose notification center displays the
+ * messages differently should override
+ * {@link fr.pederobien.minecraftdevelopmenttoolkit.interfaces.messagecode.ICodeSender#display(Player, DisplayOption, boolean, boolean, EColor, String)}.
+ */
+public final class MessageDisplay {
+	// The durations, in ticks, used by Bukkit when a title is sent without durations.
+	private static final int FADE_IN = 10, STAY = 70, FADE_OUT = 20;
+	private static final Map<EColor, ChatColor> COLORS = colors();
+
+	private MessageDisplay() {
+	}
+
+	/**
+	 * Display the given message on the screen of the given player.
+	 *
+	 * @param player        The player that receives the message.
+	 * @param displayOption The place where the message should be displayed on player screen, or null for the chat.
+	 * @param isItalic      If the message should be displayed in italic.
+	 * @param isBold        If the message should be displayed in bold.
+	 * @param color         The message color, or null to keep the default color.
+	 * @param message       The translated message.
+	 */
+	public static void display(Player player, DisplayOption displayOption, boolean isItalic, boolean isBold, EColor color, String message) {
+		String text = format(isItalic, isBold, color, message);
+		switch (displayOption == null ? DisplayOption.CHAT : displayOption) {
+		case TITLE:
+			player.sendTitle(text, "", FADE_IN, STAY, FADE_OUT);
+			break;
+		case SUBTITLE:
+			player.sendTitle("", text, FADE_IN, STAY, FADE_OUT);
+			break;
+		case ACTION_BAR:
+			player.spigot().sendMessage(ChatMessageType.ACTION_BAR, TextComponent.fromLegacyText(text));
+			break;
+		default:
+			MessageManager.sendMessage(player, text);
+			break;
+		}
+	}
+
+	/**
+	 * Prefix the given message with the formatting codes of the given modifiers.
+	 *
+	 * @param isItalic If the message should be displayed in italic.
+	 * @param isBold   If the message should be displayed in bold.
+	 * @param color    The message color, or null to keep the default color. A color without a chat color of the same name keeps the
+	 *                 default color.
+	 * @param message  The message to format.
+	 *
+	 * @return The formatted message.
+	 */
+	public static String format(boolean isItalic, boolean isBold, EColor color, String message) {
+		if (!isItalic && !isBold && color == null)
+			return message;
+
+		StringBuilder builder = new StringBuilder();
+		ChatColor chatColor = color == null ? null : COLORS.get(color);
+		if (chatColor != null)
+			builder.append(chatColor);
+		if (isBold)
+			builder.append(ChatColor.BOLD);
+		if (isItalic)
+			builder.append(ChatColor.ITALIC);
+		return builder.append(message).toString();
+	}
+
+	/**
+	 * @return The chat color of each message color, associated by name.
+	 */
+	private static Map<EColor, ChatColor> colors() {
+		Map<String, ChatColor> byName = new HashMap<String, ChatColor>();
+		for (ChatColor chatColor : ChatColor.values())
+			byName.put(chatColor.name(), chatColor);
+
+		Map<EColor, ChatColor> colors = new EnumMap<EColor, ChatColor>(EColor.class);
+		for (EColor color : EColor.values()) {
+			ChatColor chatColor = byName.get(color.name());
+			if (chatColor != null)
+				colors.put(color, chatColor);
+		}
+		return colors;
+	}
+}
@@ -0,0 +1,197 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.impl.messagecode;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Prepares messages on worker threads and sends them on the main thread. Each message is given as a translation, run by the
+ * executor, that returns the action sending the translated message, run by the server scheduler. The messages of a player are sent
+ * in the order they have been submitted. When too many messages of a player are waiting for their translation, the next messages
+ * are translated on the calling thread, so that the workers can not be overwhelmed.
+ */
+public class MessagePipeline {
+	private final Plugin plugin;
+	private final Executor executor;
+	private final int capacity;
+	private final Map<UUID, Lane> lanes;
+	private final Queue<Lane> ready;
+	private final AtomicBoolean isDrainScheduled;
+
+	/**
+	 * Creates a pipeline.
+	 *
+	 * @param plugin   The plugin used to schedule the sending of the messages on the main thread.
+	 * @param executor The executor that runs the translations.
+	 * @param capacity The maximum number of messages of one player waiting for their translation on the executor.
+	 */
+	public MessagePipeline(Plugin plugin, Executor executor, int capacity) {
+		if (capacity < 1)
+			throw new IllegalArgumentException("The capacity should be strictly positive");
+		this.plugin = plugin;
+		this.executor = executor;
+		this.capacity = capacity;
+		lanes = new ConcurrentHashMap<UUID, Lane>();
+		ready = new ConcurrentLinkedQueue<Lane>();
+		isDrainScheduled = new AtomicBoolean(false);
+	}
+
+	/**
+	 * Submits a message for the given player. The translation is run on a worker thread, then the action it returns is run on the
+	 * main thread if the player is still online. If the translation or the action throws an exception, the exception is logged by the
+	 * plugin on the main thread and the next messages are still sent.
+	 *
+	 * @param player      The player that receives the message.
+	 * @param translation The translation of the message, that returns the action sending the translated message.
+	 */
+	public void submit(Player player, Supplier<Runnable> translation) {
+		Entry entry = new Entry(player, translation);
+		boolean[] state = new boolean[2];
+		lanes.compute(player.getUniqueId(), (uuid, lane) -> {
+			Lane current = lane == null ? new Lane(uuid) : lane;
+			synchronized (current) {
+				current.entries.addLast(entry);
+				// Back-pressure: the entry is translated on the calling thread
+				state[0] = current.pending.size() >= capacity;
+				if (!state[0]) {
+					current.pending.addLast(entry);
+					state[1] = !current.isTranslating;
+					current.isTranslating = true;
+				}
+			}
+			entry.lane = current;
+			return current;
+		});
+
+		if (state[0]) {
+			translate(entry);
+			markReady(entry.lane);
+		} else if (state[1])
+			executor.execute(() -> translateLane(entry.lane));
+	}
+
+	private void translateLane(Lane lane) {
+		while (true) {
+			Entry entry;
+			synchronized (lane) {
+				entry = lane.pending.pollFirst();
+				if (entry == null)
+					lane.isTranslating = false;
+			}
+
+			if (entry == null) {
+				release(lane);
+				return;
+			}
+			translate(entry);
+			markReady(lane);
+		}
+	}
+
+	private void translate(Entry entry) {
+		Runnable delivery;
+		try {
+			delivery = entry.translation.get();
+		} catch (RuntimeException e) {
+			delivery = () -> {
+				throw e;
+			};
+		}
+		entry.delivery = delivery;
+	}
+
+	private void markReady(Lane lane) {
+		ready.add(lane);
+		if (isDrainScheduled.compareAndSet(false, true))
+			Bukkit.getScheduler().runTask(plugin, this::drain);
+	}
+
+	private void drain() {
+		isDrainScheduled.set(false);
+		Lane lane = null;
+		try {
+			while ((lane = ready.poll()) != null) {
+				Entry entry;
+				while ((entry = pollDelivery(lane)) != null)
+					if (entry.player.isOnline())
+						deliver(entry);
+			}
+		} finally {
+			// If an error stopped the loop, the current lane and the lanes still ready are drained during the next tick.
+			if (lane != null)
+				ready.add(lane);
+			if (!ready.isEmpty() && isDrainScheduled.compareAndSet(false, true))
+				Bukkit.getScheduler().runTask(plugin, this::drain);
+		}
+	}
+
+	private void deliver(Entry entry) {
+		try {
+			entry.delivery.run();
+		} catch (RuntimeException e) {
+			plugin.getLogger().log(Level.SEVERE, "Cannot send a message to " + entry.player.getName(), e);
+		}
+	}
+
+	private Entry pollDelivery(Lane lane) {
+		Entry entry;
+		synchronized (lane) {
+			entry = lane.entries.peekFirst();
+			if (entry == null || entry.delivery == null)
+				return null;
+			lane.entries.pollFirst();
+		}
+
+		release(lane);
+		return entry;
+	}
+
+	/**
+	 * Removes the lane of a player once all its messages have been sent, unless a message has been submitted meanwhile.
+	 */
+	private void release(Lane lane) {
+		if (lane.isEmpty())
+			lanes.computeIfPresent(lane.uuid, (key, current) -> current == lane && lane.isEmpty() ? null : current);
+	}
+
+	private static class Lane {
+		private final UUID uuid;
+		private final Deque<Entry> entries;
+		private final Deque<Entry> pending;
+		private boolean isTranslating;
+
+		private Lane(UUID uuid) {
+			this.uuid = uuid;
+			entries = new ArrayDeque<Entry>();
+			pending = new ArrayDeque<Entry>();
+		}
+
+		private synchronized boolean isEmpty() {
+			return entries.isEmpty() && pending.isEmpty() && !isTranslating;
+		}
+	}
+
+	private static class Entry {
+		private final Player player;
+		private final Supplier<Runnable> translation;
+		private volatile Runnable delivery;
+		private Lane lane;
+
+		private Entry(Player player, Supplier<Runnable> translation) {
+			this.player = player;
+			this.translation = translation;
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.impl.messagecode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Translated message split into literal segments and argument slots. Formatting a message from a template only appends the segments
+ * and the arguments to a builder, without parsing the translated message again.
+ */
+final class MessageTemplate {
+	// Unicode noncharacters, that never appear in a translated message.
+	private static final char MARKER = '\uFDD0';
+	private static final int MAX_ARITY = '\uFDEF' - MARKER;
+	// Letters of both cases inserted in the long markers, changed if the message changes the case of its arguments.
+	private static final String CASED = "aA";
+
+	private final int arity;
+	private final String[] segments;
+	private final int[] slots;
+
+	private MessageTemplate(int arity, String[] segments, int[] slots) {
+		this.arity = arity;
+		this.segments = segments;
+		this.slots = slots;
+	}
+
+	/**
+	 * Get the arguments to give to the dictionary in order to find where each argument is inserted in the translated message. The
+	 * message should be translated twice, once with short markers and once with long markers, so that a message that changes its
+	 * arguments can be detected.
+	 *
+	 * @param arity  The number of arguments of the message.
+	 * @param isLong True to get the long markers, false to get the short markers.
+	 *
+	 * @return An array of markers, one for each argument.
+	 */
+	static Object[] markers(int arity, boolean isLong) {
+		Object[] markers = new Object[arity];
+		for (int i = 0; i < arity; i++)
+			markers[i] = marker(i, isLong);
+		return markers;
+	}
+
+	/**
+	 * Compile the message translated with the arguments returned by {@link #markers(int, boolean)}. The markers should be inserted
+	 * exactly as they are given: a message that pads, truncates or changes the case of its arguments, like <code>"%-10s"</code> or
+	 * <code>"%S"</code> do, inserts the short and the long markers differently and cannot be compiled.
+	 *
+	 * @param shortTranslated The message translated with the short markers as arguments.
+	 * @param longTranslated  The message translated with the long markers as arguments.
+	 * @param arity           The number of arguments of the message.
+	 *
+	 * @return The template of the message, or null if the markers cannot be found unambiguously in the translated messages or if they
+	 *         have not been inserted as they are.
+	 */
+	static MessageTemplate compile(String shortTranslated, String longTranslated, int arity) {
+		if (shortTranslated == null || longTranslated == null || arity > MAX_ARITY)
+			return null;
+
+		MessageTemplate template = parse(shortTranslated, arity, false);
+		if (template == null)
+			return null;
+
+		// Padding is not the same around markers of different lengths, a case change is only visible on the long markers.
+		MessageTemplate other = parse(longTranslated, arity, true);
+		if (other == null || !Arrays.equals(template.segments, other.segments) || !Arrays.equals(template.slots, other.slots))
+			return null;
+		return template;
+	}
+
+	/**
+	 * @return The number of arguments of the message.
+	 */
+	int getArity() {
+		return arity;
+	}
+
+	private static String marker(int index, boolean isLong) {
+		StringBuilder builder = new StringBuilder(5).append(MARKER).append((char) (MARKER + 1 + index));
+		if (isLong)
+			builder.append(CASED);
+		return builder.append(MARKER).toString();
+	}
+
+	private static MessageTemplate parse(String translated, int arity, boolean isLong) {
+		List<String> segments = new ArrayList<String>();
+		List<Integer> slots = new ArrayList<Integer>();
+		int start = 0;
+		for (int i = translated.indexOf(MARKER); i >= 0; i = translated.indexOf(MARKER, start)) {
+			int index = i + 1 < translated.length() ? translated.charAt(i + 1) - MARKER - 1 : -1;
+			if (index < 0 || index >= arity)
+				return null;
+
+			String marker = marker(index, isLong);
+			if (!translated.startsWith(marker, i))
+				return null;
+			segments.add(translated.substring(start, i));
+			slots.add(index);
+			start = i + marker.length();
+		}
+		segments.add(translated.substring(start));
+
+		int[] slotArray = new int[slots.size()];
+		for (int i = 0; i < slotArray.length; i++)
+			slotArray[i] = slots.get(i);
+		return new MessageTemplate(arity, segments.toArray(new String[segments.size()]), slotArray);
+	}
+
+	/**
+	 * Insert the given arguments in this template.
+	 *
+	 * @param args The arguments of the message.
+	 *
+	 * @return The formatted message.
+	 */
+	String format(Object... args) {
+		if (slots.length == 0)
+			return segments[0];
+
+		StringBuilder builder = new StringBuilder(64);
+		builder.append(segments[0]);
+		for (int i = 0; i < slots.length; i++)
+			builder.append(String.valueOf(args[slots[i]])).append(segments[i + 1]);
+		return builder.toString();
+	}
+}
@@ -0,0 +1,77 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.impl.messagecode;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bukkit.entity.Player;
+
+import fr.pederobien.minecraftdictionary.impl.MinecraftMessageEvent;
+import fr.pederobien.minecraftdictionary.interfaces.IDictionaryContext;
+import fr.pederobien.minecraftdictionary.interfaces.IMinecraftMessageCode;
+
+/**
+ * Cache of the translated messages of a dictionary context, compiled by code and by locale. The first time a message is requested
+ * for a locale, it is translated twice with markers of different lengths instead of the arguments in order to find where the
+ * arguments are inserted. The following messages for this code and this locale are formatted without asking the dictionary
+ * context.
+ * <p>
+ * Arguments are inserted using {@link String#valueOf(Object)}. If the translated message formats its arguments differently, for
+ * instance as numbers, padded to a width or in upper case, the markers are not inserted as they are and the message is always
+ * translated by the dictionary context. Messages whose text depends on the value of their arguments should not be requested from
+ * this cache.
+ */
+public class MessageTemplates {
+	private static final MessageTemplate NOT_COMPILABLE = MessageTemplate.compile("", "", 0);
+
+	private final IDictionaryContext context;
+	private final Map<IMinecraftMessageCode, Map<String, MessageTemplate>> templates;
+
+	/**
+	 * Creates a cache of templates.
+	 *
+	 * @param context The dictionary context used to translate messages.
+	 */
+	public MessageTemplates(IDictionaryContext context) {
+		this.context = context;
+		templates = new ConcurrentHashMap<IMinecraftMessageCode, Map<String, MessageTemplate>>();
+	}
+
+	/**
+	 * Get the message associated to the given code in the language of the given player.
+	 *
+	 * @param player The player used to get the language of the message.
+	 * @param code   Used as key to get the right message in the right dictionary.
+	 * @param args   Some arguments (optional) used for dynamic messages.
+	 *
+	 * @return The translated message.
+	 */
+	public String getMessage(Player player, IMinecraftMessageCode code, Object... args) {
+		String locale = player.getLocale();
+		if (locale == null)
+			return context.getMessage(new MinecraftMessageEvent(player, code, args));
+
+		Map<String, MessageTemplate> byLocale = templates.computeIfAbsent(code, key -> new ConcurrentHashMap<String, MessageTemplate>());
+		MessageTemplate template = byLocale.computeIfAbsent(locale, key -> compile(player, code, args.length));
+		if (template == NOT_COMPILABLE || template.getArity() != args.length)
+			return context.getMessage(new MinecraftMessageEvent(player, code, args));
+		return template.format(args);
+	}
+
+	/**
+	 * Remove all the compiled messages, for instance after a dictionary has been registered or unregistered.
+	 */
+	public void clear() {
+		templates.clear();
+	}
+
+	private MessageTemplate compile(Player player, IMinecraftMessageCode code, int arity) {
+		try {
+			String shortTranslated = context.getMessage(new MinecraftMessageEvent(player, code, MessageTemplate.markers(arity, false)));
+			String longTranslated = context.getMessage(new MinecraftMessageEvent(player, code, MessageTemplate.markers(arity, true)));
+			MessageTemplate template = MessageTemplate.compile(shortTranslated, longTranslated, arity);
+			return template == null ? NOT_COMPILABLE : template;
+		} catch (RuntimeException e) {
+			return NOT_COMPILABLE;
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.interfaces;
+
+import java.util.List;
+
+/**
+ * Describes the type of one argument of a command : how to convert the text typed by a player and what to propose while the
+ * argument is being typed.
+ *
+ * @param <A> The type of the converted argument.
+ */
+public interface IArgumentType<A> {
+
+	/**
+	 * Converts the given argument. This method should not throw an exception when the argument is not valid.
+	 *
+	 * @param arg The argument typed by a player.
+	 *
+	 * @return The converted argument or null if the argument is not valid.
+	 */
+	A parse(String arg);
+
+	/**
+	 * @param arg The argument a player is typing, possibly empty.
+	 *
+	 * @return A list that contains the values to propose to the player.
+	 */
+	List<String> complete(String arg);
+
+	/**
+	 * Tells if a value converted earlier can be used again instead of converting the same argument again, for instance when a command
+	 * is run after the completion of its arguments. A type whose values depend on the state of the server, like the online players,
+	 * should check that the value is still valid. If not overridden, the values are never reused.
+	 *
+	 * @param value A value converted earlier by this type.
+	 *
+	 * @return True if the value is still the conversion of the argument it has been converted from.
+	 */
+	default boolean isReusable(A value) {
+		return false;
+	}
+}
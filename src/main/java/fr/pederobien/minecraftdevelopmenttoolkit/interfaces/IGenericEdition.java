@@ -1,7 +1,13 @@
 package fr.pederobien.minecraftdevelopmenttoolkit.interfaces;
 
+import java.util.List;
+
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
 
+import fr.pederobien.minecraftdevelopmenttoolkit.utils.Arguments;
+
 /**
  * 
  * @author Pierre-Emmanuel
@@ -24,4 +30,21 @@ public interface IGenericEdition<T> extends TabCompleter, Comparable<IGenericEdi
 	 * @return An explanation used to explain what this argument does for the main command.
 	 */
 	T getExplanation();
+
+	/**
+	 * Requests a list of possible completions for a command argument. The arguments are given as a view in order not to copy them at
+	 * each level of the command tree. If not overridden, this method calls
+	 * {@link #onTabComplete(CommandSender, Command, String, String[])}.
+	 * 
+	 * @param sender  Source of the command. For players tab-completing a command inside of a command block, this will be the
+	 *                player, not the command block.
+	 * @param command Command which was executed.
+	 * @param alias   The alias used.
+	 * @param args    The arguments passed to the command, including final partial argument to be completed.
+	 * 
+	 * @return A List of possible completions for the final argument, or null to default to the command executor
+	 */
+	default List<String> onTabComplete(CommandSender sender, Command command, String alias, Arguments args) {
+		return onTabComplete(sender, command, alias, args.toArray());
+	}
 }
@@ -1,6 +1,10 @@
 package fr.pederobien.minecraftdevelopmenttoolkit.interfaces;
 
+import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+
+import fr.pederobien.minecraftdevelopmenttoolkit.utils.Arguments;
 
 /**
  * 
@@ -15,4 +19,19 @@ public interface IGenericParentEdition<T, U, V extends IGenericParentEdition<T,
 		extends IManagedEdition<U>, ICommonEdition<T, W, V>, CommandExecutor {
 
 	IGenericParentEdition<T, U, V, W> setHelper(IHelper<T, U, V, W> helper);
+
+	/**
+	 * Executes the given command. The arguments are given as a view in order not to copy them at each level of the command tree. If
+	 * not overridden, this method calls {@link #onCommand(CommandSender, Command, String, String[])}.
+	 * 
+	 * @param sender  Source of the command.
+	 * @param command Command which was executed.
+	 * @param label   Alias of the command which was used.
+	 * @param args    Passed command arguments.
+	 * 
+	 * @return true if a valid command, otherwise false.
+	 */
+	default boolean onCommand(CommandSender sender, Command command, String label, Arguments args) {
+		return onCommand(sender, command, label, args.toArray());
+	}
 }
@@ -2,6 +2,8 @@ package fr.pederobien.minecraftdevelopmenttoolkit.interfaces;
 
 import org.bukkit.command.CommandSender;
 
+import fr.pederobien.minecraftdevelopmenttoolkit.utils.Arguments;
+
 /**
  * 
  * @author Pierre-Emmanuel
@@ -31,4 +33,14 @@ public interface IHelper<T, U, V extends IGenericParentEdition<T, U, V, W>, W ex
 	 */
 	void help(CommandSender sender, String[] args);
 
+	/**
+	 * Send to the given command sender the explanation of each generic edition of the parent. The arguments are given as a view in
+	 * order not to copy them. If not overridden, this method calls {@link #help(CommandSender, String[])}.
+	 * 
+	 * @param sender The object used to send explanations.
+	 * @param args   A view used to send the explanation of one specific generic edition or the explanation of each generic edition.
+	 */
+	default void help(CommandSender sender, Arguments args) {
+		help(sender, args.toArray());
+	}
 }
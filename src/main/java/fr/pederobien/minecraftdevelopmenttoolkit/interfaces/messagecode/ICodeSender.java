@@ -1,17 +1,29 @@
 package fr.pederobien.minecraftdevelopmenttoolkit.interfaces.messagecode;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.bukkit.GameRule;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
+import fr.pederobien.minecraftdevelopmenttoolkit.impl.messagecode.CommandFeedback;
+import fr.pederobien.minecraftdevelopmenttoolkit.impl.messagecode.EventArguments;
+import fr.pederobien.minecraftdevelopmenttoolkit.impl.messagecode.MessageCoalescer;
+import fr.pederobien.minecraftdevelopmenttoolkit.impl.messagecode.MessageDisplay;
+import fr.pederobien.minecraftdevelopmenttoolkit.impl.messagecode.MessagePipeline;
+import fr.pederobien.minecraftdevelopmenttoolkit.impl.messagecode.MessageTemplates;
 import fr.pederobien.minecraftdictionary.impl.MinecraftMessageEvent;
 import fr.pederobien.minecraftdictionary.impl.Permission;
+import fr.pederobien.minecraftdictionary.interfaces.IDictionaryContext;
 import fr.pederobien.minecraftdictionary.interfaces.IMinecraftMessageCode;
 import fr.pederobien.minecraftdictionary.interfaces.IMinecraftMessageEvent;
 import fr.pederobien.minecraftdictionary.interfaces.IMinecraftNotificationCenter;
 import fr.pederobien.minecraftmanagers.EColor;
 import fr.pederobien.minecraftmanagers.MessageManager.DisplayOption;
-import fr.pederobien.minecraftmanagers.WorldManager;
 
 public interface ICodeSender {
 
@@ -20,6 +32,45 @@ public interface ICodeSender {
 	 */
 	IMinecraftNotificationCenter getNotificationCenter();
 
+	/**
+	 * @return The pipeline used by the asynchronous methods to translate messages on worker threads, or null to translate and send
+	 *         them on the calling thread. By default, there is no pipeline. A pipeline requires a thread-safe dictionary context.
+	 * 
+	 * @see #isDictionaryContextThreadSafe()
+	 */
+	public default MessagePipeline getMessagePipeline() {
+		return null;
+	}
+
+	/**
+	 * Declares if the dictionary context of the notification center can translate messages on several threads at the same time, while
+	 * dictionaries are registered or unregistered on the main thread. The {@link #getMessagePipeline() pipeline} translates the
+	 * messages on worker threads, it can only be used if this method returns true. By default, the dictionary context is not
+	 * considered thread-safe.
+	 * 
+	 * @return True if the dictionary context is thread-safe, false otherwise.
+	 */
+	public default boolean isDictionaryContextThreadSafe() {
+		return false;
+	}
+
+	/**
+	 * @return The coalescer used to send only the latest message displayed in the action bar, the title or the subtitle of a player
+	 *         during a tick, or null to send each message immediately. By default, there is no coalescer.
+	 */
+	public default MessageCoalescer getMessageCoalescer() {
+		return null;
+	}
+
+	/**
+	 * @return The cache of compiled messages used by {@link #getMessage(CommandSender, IMinecraftMessageCode, Object...)} and by the
+	 *         broadcasts, or null to translate each message with the dictionary context. The other methods send an event translated by
+	 *         the notification center and do not use it. By default, there is no cache.
+	 */
+	public default MessageTemplates getMessageTemplates() {
+		return null;
+	}
+
 	/**
 	 * Send a message to the given player. First create an {@link IMinecraftMessageEvent} that is used to get messages into registered
 	 * dictionaries. This method is synchronized with {@link GameRule#SEND_COMMAND_FEEDBACK}. This means that if the game rule has
@@ -35,8 +86,8 @@ public interface ICodeSender {
 	 */
 	public default void sendSynchro(CommandSender sender, IMinecraftMessageCode code, DisplayOption displayOption, boolean isItalic, boolean isBold, EColor color,
 			Object... args) {
-		if (sender instanceof Player && WorldManager.OVERWORLD.getGameRuleValue(GameRule.SEND_COMMAND_FEEDBACK))
-			send(event((Player) sender, code, displayOption, isItalic, isBold, color, args));
+		if (sender instanceof Player && CommandFeedback.isEnabled())
+			send((Player) sender, displayOption, event((Player) sender, code, displayOption, isItalic, isBold, color, args));
 	}
 
 	/**
@@ -51,8 +102,8 @@ public interface ICodeSender {
 	 * @param args          Some arguments (optional) used for dynamic messages.
 	 */
 	public default void sendSynchro(CommandSender sender, IMinecraftMessageCode code, DisplayOption displayOption, EColor color, Object... args) {
-		if (sender instanceof Player && WorldManager.OVERWORLD.getGameRuleValue(GameRule.SEND_COMMAND_FEEDBACK))
-			send(event((Player) sender, code, displayOption, color, args));
+		if (sender instanceof Player && CommandFeedback.isEnabled())
+			send((Player) sender, displayOption, event((Player) sender, code, displayOption, color, args));
 	}
 
 	/**
@@ -66,8 +117,8 @@ public interface ICodeSender {
 	 * @param args          Some arguments (optional) used for dynamic messages.
 	 */
 	public default void sendSynchro(CommandSender sender, IMinecraftMessageCode code, DisplayOption displayOption, Object... args) {
-		if (sender instanceof Player && WorldManager.OVERWORLD.getGameRuleValue(GameRule.SEND_COMMAND_FEEDBACK))
-			send(event((Player) sender, code, displayOption, args));
+		if (sender instanceof Player && CommandFeedback.isEnabled())
+			send((Player) sender, displayOption, event((Player) sender, code, displayOption, args));
 	}
 
 	/**
@@ -81,7 +132,7 @@ public interface ICodeSender {
 	 * @param args   Some arguments (optional) used for dynamic messages.
 	 */
 	public default void sendSynchro(CommandSender sender, IMinecraftMessageCode code, EColor color, Object... args) {
-		if (sender instanceof Player && WorldManager.OVERWORLD.getGameRuleValue(GameRule.SEND_COMMAND_FEEDBACK))
+		if (sender instanceof Player && CommandFeedback.isEnabled())
 			send(event((Player) sender, code, color, args));
 	}
 
@@ -95,7 +146,7 @@ public interface ICodeSender {
 	 * @param args   Some arguments (optional) used for dynamic messages.
 	 */
 	public default void sendSynchro(CommandSender sender, IMinecraftMessageCode code, Object... args) {
-		if (sender instanceof Player && WorldManager.OVERWORLD.getGameRuleValue(GameRule.SEND_COMMAND_FEEDBACK))
+		if (sender instanceof Player && CommandFeedback.isEnabled())
 			send(event((Player) sender, code, args));
 	}
 
@@ -112,7 +163,7 @@ public interface ICodeSender {
 	 * @param args          Some arguments (optional) used for dynamic messages.
 	 */
 	public default void sendSynchro(IMinecraftMessageCode code, DisplayOption displayOption, boolean isItalic, boolean isBold, EColor color, Object... args) {
-		if (WorldManager.OVERWORLD.getGameRuleValue(GameRule.SEND_COMMAND_FEEDBACK))
+		if (CommandFeedback.isEnabled())
 			send(event(code, displayOption, isItalic, isBold, color, args));
 	}
 
@@ -127,7 +178,7 @@ public interface ICodeSender {
 	 * @param args          Some arguments (optional) used for dynamic messages.
 	 */
 	public default void sendSynchro(IMinecraftMessageCode code, DisplayOption displayOption, EColor color, Object... args) {
-		if (WorldManager.OVERWORLD.getGameRuleValue(GameRule.SEND_COMMAND_FEEDBACK))
+		if (CommandFeedback.isEnabled())
 			send(event(code, displayOption, color, args));
 	}
 
@@ -141,7 +192,7 @@ public interface ICodeSender {
 	 * @param args          Some arguments (optional) used for dynamic messages.
 	 */
 	public default void sendSynchro(IMinecraftMessageCode code, DisplayOption displayOption, Object... args) {
-		if (WorldManager.OVERWORLD.getGameRuleValue(GameRule.SEND_COMMAND_FEEDBACK))
+		if (CommandFeedback.isEnabled())
 			send(event(code, displayOption, args));
 	}
 
@@ -155,7 +206,7 @@ public interface ICodeSender {
 	 * @param args  Some arguments (optional) used for dynamic messages.
 	 */
 	public default void sendSynchro(IMinecraftMessageCode code, EColor color, Object... args) {
-		if (WorldManager.OVERWORLD.getGameRuleValue(GameRule.SEND_COMMAND_FEEDBACK))
+		if (CommandFeedback.isEnabled())
 			send(event(code, color, args));
 	}
 
@@ -168,7 +219,7 @@ public interface ICodeSender {
 	 * @param args Some arguments (optional) used for dynamic messages.
 	 */
 	public default void sendSynchro(IMinecraftMessageCode code, Object... args) {
-		if (WorldManager.OVERWORLD.getGameRuleValue(GameRule.SEND_COMMAND_FEEDBACK))
+		if (CommandFeedback.isEnabled())
 			send(event(code, args));
 	}
 
@@ -187,7 +238,7 @@ public interface ICodeSender {
 	public default void sendNotSynchro(CommandSender sender, IMinecraftMessageCode code, DisplayOption displayOption, boolean isItalic, boolean isBold, EColor color,
 			Object... args) {
 		if (sender instanceof Player)
-			send(event((Player) sender, code, displayOption, isItalic, isBold, color, args));
+			send((Player) sender, displayOption, event((Player) sender, code, displayOption, isItalic, isBold, color, args));
 	}
 
 	/**
@@ -202,7 +253,7 @@ public interface ICodeSender {
 	 */
 	public default void sendNotSynchro(CommandSender sender, IMinecraftMessageCode code, DisplayOption displayOption, EColor color, Object... args) {
 		if (sender instanceof Player)
-			send(event((Player) sender, code, displayOption, color, args));
+			send((Player) sender, displayOption, event((Player) sender, code, displayOption, color, args));
 	}
 
 	/**
@@ -216,7 +267,7 @@ public interface ICodeSender {
 	 */
 	public default void sendNotSynchro(CommandSender sender, IMinecraftMessageCode code, DisplayOption displayOption, Object... args) {
 		if (sender instanceof Player)
-			send(event((Player) sender, code, displayOption, args));
+			send((Player) sender, displayOption, event((Player) sender, code, displayOption, args));
 	}
 
 	/**
@@ -314,6 +365,581 @@ public interface ICodeSender {
 		send(event(code, args));
 	}
 
+	/**
+	 * Send a message with one numeric argument to the given player. The array of arguments of the event is reused from a previous call
+	 * on the same thread and the values between -128 and 1023 are not boxed into new objects. The notification center must therefore
+	 * not keep the event once the message has been sent.
+	 * This method is synchronized with {@link GameRule#SEND_COMMAND_FEEDBACK}. This means that if the game rule has been set to
+	 * false, then no message is sent.
+	 * 
+	 * @param sender        Generally a player, it is used to get a message in his language.
+	 * @param code          Used as key to get the right message in the right dictionary.
+	 * @param displayOption The place where the message should be displayed on player screen.
+	 * @param value         The argument of the message.
+	 */
+	public default void sendSynchroInt(CommandSender sender, IMinecraftMessageCode code, DisplayOption displayOption, int value) {
+		if (sender instanceof Player && CommandFeedback.isEnabled())
+			EventArguments.send(this, (Player) sender, code, displayOption, EventArguments.box(value));
+	}
+
+	/**
+	 * Send a message with one numeric argument to the given player. The array of arguments of the event is reused from a previous call
+	 * on the same thread and the values between -128 and 1023 are not boxed into new objects. The notification center must therefore
+	 * not keep the event once the message has been sent.
+	 * This method is synchronized with {@link GameRule#SEND_COMMAND_FEEDBACK}. This means that if the game rule has been set to
+	 * false, then no message is sent.
+	 * 
+	 * @param sender        Generally a player, it is used to get a message in his language.
+	 * @param code          Used as key to get the right message in the right dictionary.
+	 * @param displayOption The place where the message should be displayed on player screen.
+	 * @param value         The argument of the message.
+	 */
+	public default void sendSynchroLong(CommandSender sender, IMinecraftMessageCode code, DisplayOption displayOption, long value) {
+		if (sender instanceof Player && CommandFeedback.isEnabled())
+			EventArguments.send(this, (Player) sender, code, displayOption, EventArguments.box(value));
+	}
+
+	/**
+	 * Send a message with one numeric argument to the given player. The array of arguments of the event is reused from a previous call
+	 * on the same thread and the values between -128 and 1023 are not boxed into new objects. The notification center must therefore
+	 * not keep the event once the message has been sent.
+	 * This method is synchronized with {@link GameRule#SEND_COMMAND_FEEDBACK}. This means that if the game rule has been set to
+	 * false, then no message is sent.
+	 * 
+	 * @param sender Generally a player, it is used to get a message in his language.
+	 * @param code   Used as key to get the right message in the right dictionary.
+	 * @param value  The argument of the message.
+	 */
+	public default void sendSynchroInt(CommandSender sender, IMinecraftMessageCode code, int value) {
+		if (sender instanceof Player && CommandFeedback.isEnabled())
+			EventArguments.send(this, (Player) sender, code, null, EventArguments.box(value));
+	}
+
+	/**
+	 * Send a message with one numeric argument to the given player. The array of arguments of the event is reused from a previous call
+	 * on the same thread and the values between -128 and 1023 are not boxed into new objects. The notification center must therefore
+	 * not keep the event once the message has been sent.
+	 * This method is synchronized with {@link GameRule#SEND_COMMAND_FEEDBACK}. This means that if the game rule has been set to
+	 * false, then no message is sent.
+	 * 
+	 * @param sender Generally a player, it is used to get a message in his language.
+	 * @param code   Used as key to get the right message in the right dictionary.
+	 * @param value  The argument of the message.
+	 */
+	public default void sendSynchroLong(CommandSender sender, IMinecraftMessageCode code, long value) {
+		if (sender instanceof Player && CommandFeedback.isEnabled())
+			EventArguments.send(this, (Player) sender, code, null, EventArguments.box(value));
+	}
+
+	/**
+	 * Send a message with one numeric argument to the given player. The array of arguments of the event is reused from a previous call
+	 * on the same thread and the values between -128 and 1023 are not boxed into new objects. The notification center must therefore
+	 * not keep the event once the message has been sent.
+	 * This method send a message even if the game rule {@link GameRule#SEND_COMMAND_FEEDBACK} is set to false.
+	 * 
+	 * @param sender        Generally a player, it is used to get a message in his language.
+	 * @param code          Used as key to get the right message in the right dictionary.
+	 * @param displayOption The place where the message should be displayed on player screen.
+	 * @param value         The argument of the message.
+	 */
+	public default void sendNotSynchroInt(CommandSender sender, IMinecraftMessageCode code, DisplayOption displayOption, int value) {
+		if (sender instanceof Player)
+			EventArguments.send(this, (Player) sender, code, displayOption, EventArguments.box(value));
+	}
+
+	/**
+	 * Send a message with one numeric argument to the given player. The array of arguments of the event is reused from a previous call
+	 * on the same thread and the values between -128 and 1023 are not boxed into new objects. The notification center must therefore
+	 * not keep the event once the message has been sent.
+	 * This method send a message even if the game rule {@link GameRule#SEND_COMMAND_FEEDBACK} is set to false.
+	 * 
+	 * @param sender        Generally a player, it is used to get a message in his language.
+	 * @param code          Used as key to get the right message in the right dictionary.
+	 * @param displayOption The place where the message should be displayed on player screen.
+	 * @param value         The argument of the message.
+	 */
+	public default void sendNotSynchroLong(CommandSender sender, IMinecraftMessageCode code, DisplayOption displayOption, long value) {
+		if (sender instanceof Player)
+			EventArguments.send(this, (Player) sender, code, displayOption, EventArguments.box(value));
+	}
+
+	/**
+	 * Send a message with one numeric argument to the given player. The array of arguments of the event is reused from a previous call
+	 * on the same thread and the values between -128 and 1023 are not boxed into new objects. The notification center must therefore
+	 * not keep the event once the message has been sent.
+	 * This method send a message even if the game rule {@link GameRule#SEND_COMMAND_FEEDBACK} is set to false.
+	 * 
+	 * @param sender Generally a player, it is used to get a message in his language.
+	 * @param code   Used as key to get the right message in the right dictionary.
+	 * @param value  The argument of the message.
+	 */
+	public default void sendNotSynchroInt(CommandSender sender, IMinecraftMessageCode code, int value) {
+		if (sender instanceof Player)
+			EventArguments.send(this, (Player) sender, code, null, EventArguments.box(value));
+	}
+
+	/**
+	 * Send a message with one numeric argument to the given player. The array of arguments of the event is reused from a previous call
+	 * on the same thread and the values between -128 and 1023 are not boxed into new objects. The notification center must therefore
+	 * not keep the event once the message has been sent.
+	 * This method send a message even if the game rule {@link GameRule#SEND_COMMAND_FEEDBACK} is set to false.
+	 * 
+	 * @param sender Generally a player, it is used to get a message in his language.
+	 * @param code   Used as key to get the right message in the right dictionary.
+	 * @param value  The argument of the message.
+	 */
+	public default void sendNotSynchroLong(CommandSender sender, IMinecraftMessageCode code, long value) {
+		if (sender instanceof Player)
+			EventArguments.send(this, (Player) sender, code, null, EventArguments.box(value));
+	}
+
+	/**
+	 * Send a message to the given player, translated on a worker thread of the {@link #getMessagePipeline() pipeline}. This method is
+	 * synchronized with {@link GameRule#SEND_COMMAND_FEEDBACK}. This means that if the game rule has been set to false, then no
+	 * message is sent.
+	 * 
+	 * @param sender        Generally a player, it is used to get a message in his language.
+	 * @param code          Used as key to get the right message in the right dictionary.
+	 * @param displayOption The place where the message should be displayed on player screen.
+	 * @param isItalic      If the message should be displayed in italic.
+	 * @param isBold        If the message should be displayed in bold.
+	 * @param color         The message color.
+	 * @param args          Some arguments (optional) used for dynamic messages.
+	 * 
+	 * @see #sendAsync(Player, DisplayOption, boolean, boolean, EColor, IMinecraftMessageEvent)
+	 */
+	public default void sendSynchroAsync(CommandSender sender, IMinecraftMessageCode code, DisplayOption displayOption, boolean isItalic, boolean isBold, EColor color,
+			Object... args) {
+		if (sender instanceof Player && CommandFeedback.isEnabled()) {
+			Player player = (Player) sender;
+			sendAsync(player, displayOption, isItalic, isBold, color, event(player, code, displayOption, isItalic, isBold, color, args));
+		}
+	}
+
+	/**
+	 * Send a message to the given player, translated on a worker thread of the {@link #getMessagePipeline() pipeline}. This method is
+	 * synchronized with {@link GameRule#SEND_COMMAND_FEEDBACK}. This means that if the game rule has been set to false, then no
+	 * message is sent.
+	 * 
+	 * @param sender        Generally a player, it is used to get a message in his language.
+	 * @param code          Used as key to get the right message in the right dictionary.
+	 * @param displayOption The place where the message should be displayed on player screen.
+	 * @param color         The message color.
+	 * @param args          Some arguments (optional) used for dynamic messages.
+	 * 
+	 * @see #sendAsync(Player, DisplayOption, boolean, boolean, EColor, IMinecraftMessageEvent)
+	 */
+	public default void sendSynchroAsync(CommandSender sender, IMinecraftMessageCode code, DisplayOption displayOption, EColor color, Object... args) {
+		if (sender instanceof Player && CommandFeedback.isEnabled()) {
+			Player player = (Player) sender;
+			sendAsync(player, displayOption, false, false, color, event(player, code, displayOption, color, args));
+		}
+	}
+
+	/**
+	 * Send a message to the given player, translated on a worker thread of the {@link #getMessagePipeline() pipeline}. This method is
+	 * synchronized with {@link GameRule#SEND_COMMAND_FEEDBACK}. This means that if the game rule has been set to false, then no
+	 * message is sent.
+	 * 
+	 * @param sender        Generally a player, it is used to get a message in his language.
+	 * @param code          Used as key to get the right message in the right dictionary.
+	 * @param displayOption The place where the message should be displayed on player screen.
+	 * @param args          Some arguments (optional) used for dynamic messages.
+	 * 
+	 * @see #sendAsync(Player, DisplayOption, boolean, boolean, EColor, IMinecraftMessageEvent)
+	 */
+	public default void sendSynchroAsync(CommandSender sender, IMinecraftMessageCode code, DisplayOption displayOption, Object... args) {
+		if (sender instanceof Player && CommandFeedback.isEnabled()) {
+			Player player = (Player) sender;
+			sendAsync(player, displayOption, false, false, null, event(player, code, displayOption, args));
+		}
+	}
+
+	/**
+	 * Send a message to the given player, translated on a worker thread of the {@link #getMessagePipeline() pipeline}. This method is
+	 * synchronized with {@link GameRule#SEND_COMMAND_FEEDBACK}. This means that if the game rule has been set to false, then no
+	 * message is sent.
+	 * 
+	 * @param sender Generally a player, it is used to get a message in his language.
+	 * @param code   Used as key to get the right message in the right dictionary.
+	 * @param color  The message color.
+	 * @param args   Some arguments (optional) used for dynamic messages.
+	 * 
+	 * @see #sendAsync(Player, DisplayOption, boolean, boolean, EColor, IMinecraftMessageEvent)
+	 */
+	public default void sendSynchroAsync(CommandSender sender, IMinecraftMessageCode code, EColor color, Object... args) {
+		if (sender instanceof Player && CommandFeedback.isEnabled()) {
+			Player player = (Player) sender;
+			sendAsync(player, null, false, false, color, event(player, code, color, args));
+		}
+	}
+
+	/**
+	 * Send a message to the given player, translated on a worker thread of the {@link #getMessagePipeline() pipeline}. This method is
+	 * synchronized with {@link GameRule#SEND_COMMAND_FEEDBACK}. This means that if the game rule has been set to false, then no
+	 * message is sent.
+	 * 
+	 * @param sender Generally a player, it is used to get a message in his language.
+	 * @param code   Used as key to get the right message in the right dictionary.
+	 * @param args   Some arguments (optional) used for dynamic messages.
+	 * 
+	 * @see #sendAsync(Player, DisplayOption, boolean, boolean, EColor, IMinecraftMessageEvent)
+	 */
+	public default void sendSynchroAsync(CommandSender sender, IMinecraftMessageCode code, Object... args) {
+		if (sender instanceof Player && CommandFeedback.isEnabled()) {
+			Player player = (Player) sender;
+			sendAsync(player, null, false, false, null, event(player, code, args));
+		}
+	}
+
+	/**
+	 * Send a message to the given player, translated on a worker thread of the {@link #getMessagePipeline() pipeline}. This method
+	 * send a message even if the game rule {@link GameRule#SEND_COMMAND_FEEDBACK} is set to false.
+	 * 
+	 * @param sender        Generally a player, it is used to get a message in his language.
+	 * @param code          Used as key to get the right message in the right dictionary.
+	 * @param displayOption The place where the message should be displayed on player screen.
+	 * @param isItalic      If the message should be displayed in italic.
+	 * @param isBold        If the message should be displayed in bold.
+	 * @param color         The message color.
+	 * @param args          Some arguments (optional) used for dynamic messages.
+	 * 
+	 * @see #sendAsync(Player, DisplayOption, boolean, boolean, EColor, IMinecraftMessageEvent)
+	 */
+	public default void sendNotSynchroAsync(CommandSender sender, IMinecraftMessageCode code, DisplayOption displayOption, boolean isItalic, boolean isBold, EColor color,
+			Object... args) {
+		if (sender instanceof Player) {
+			Player player = (Player) sender;
+			sendAsync(player, displayOption, isItalic, isBold, color, event(player, code, displayOption, isItalic, isBold, color, args));
+		}
+	}
+
+	/**
+	 * Send a message to the given player, translated on a worker thread of the {@link #getMessagePipeline() pipeline}. This method
+	 * send a message even if the game rule {@link GameRule#SEND_COMMAND_FEEDBACK} is set to false.
+	 * 
+	 * @param sender        Generally a player, it is used to get a message in his language.
+	 * @param code          Used as key to get the right message in the right dictionary.
+	 * @param displayOption The place where the message should be displayed on player screen.
+	 * @param color         The message color.
+	 * @param args          Some arguments (optional) used for dynamic messages.
+	 * 
+	 * @see #sendAsync(Player, DisplayOption, boolean, boolean, EColor, IMinecraftMessageEvent)
+	 */
+	public default void sendNotSynchroAsync(CommandSender sender, IMinecraftMessageCode code, DisplayOption displayOption, EColor color, Object... args) {
+		if (sender instanceof Player) {
+			Player player = (Player) sender;
+			sendAsync(player, displayOption, false, false, color, event(player, code, displayOption, color, args));
+		}
+	}
+
+	/**
+	 * Send a message to the given player, translated on a worker thread of the {@link #getMessagePipeline() pipeline}. This method
+	 * send a message even if the game rule {@link GameRule#SEND_COMMAND_FEEDBACK} is set to false.
+	 * 
+	 * @param sender        Generally a player, it is used to get a message in his language.
+	 * @param code          Used as key to get the right message in the right dictionary.
+	 * @param displayOption The place where the message should be displayed on player screen.
+	 * @param args          Some arguments (optional) used for dynamic messages.
+	 * 
+	 * @see #sendAsync(Player, DisplayOption, boolean, boolean, EColor, IMinecraftMessageEvent)
+	 */
+	public default void sendNotSynchroAsync(CommandSender sender, IMinecraftMessageCode code, DisplayOption displayOption, Object... args) {
+		if (sender instanceof Player) {
+			Player player = (Player) sender;
+			sendAsync(player, displayOption, false, false, null, event(player, code, displayOption, args));
+		}
+	}
+
+	/**
+	 * Send a message to the given player, translated on a worker thread of the {@link #getMessagePipeline() pipeline}. This method
+	 * send a message even if the game rule {@link GameRule#SEND_COMMAND_FEEDBACK} is set to false.
+	 * 
+	 * @param sender Generally a player, it is used to get a message in his language.
+	 * @param code   Used as key to get the right message in the right dictionary.
+	 * @param color  The message color.
+	 * @param args   Some arguments (optional) used for dynamic messages.
+	 * 
+	 * @see #sendAsync(Player, DisplayOption, boolean, boolean, EColor, IMinecraftMessageEvent)
+	 */
+	public default void sendNotSynchroAsync(CommandSender sender, IMinecraftMessageCode code, EColor color, Object... args) {
+		if (sender instanceof Player) {
+			Player player = (Player) sender;
+			sendAsync(player, null, false, false, color, event(player, code, color, args));
+		}
+	}
+
+	/**
+	 * Send a message to the given player, translated on a worker thread of the {@link #getMessagePipeline() pipeline}. This method
+	 * send a message even if the game rule {@link GameRule#SEND_COMMAND_FEEDBACK} is set to false.
+	 * 
+	 * @param sender Generally a player, it is used to get a message in his language.
+	 * @param code   Used as key to get the right message in the right dictionary.
+	 * @param args   Some arguments (optional) used for dynamic messages.
+	 * 
+	 * @see #sendAsync(Player, DisplayOption, boolean, boolean, EColor, IMinecraftMessageEvent)
+	 */
+	public default void sendNotSynchroAsync(CommandSender sender, IMinecraftMessageCode code, Object... args) {
+		if (sender instanceof Player) {
+			Player player = (Player) sender;
+			sendAsync(player, null, false, false, null, event(player, code, args));
+		}
+	}
+
+	/**
+	 * Translate the message of the given event on a worker thread of the {@link #getMessagePipeline() pipeline}, then display it on
+	 * the main thread using {@link #display(Player, DisplayOption, boolean, boolean, EColor, String)}. The messages of a player are
+	 * displayed in the order of the calls. The message is not sent through the notification center, only its dictionary context is
+	 * used, from a worker thread, while the dictionaries are registered and unregistered on the main thread. This is why a pipeline
+	 * can only be used if {@link #isDictionaryContextThreadSafe()} returns true. If there is no pipeline, the event is sent
+	 * immediately, like the synchronous methods do.
+	 * 
+	 * @param player        The player that receives the message.
+	 * @param displayOption The place where the message should be displayed on player screen, or null for the chat.
+	 * @param isItalic      If the message should be displayed in italic.
+	 * @param isBold        If the message should be displayed in bold.
+	 * @param color         The message color, or null to keep the default color.
+	 * @param event         The event that contains the message to send, created with the same modifiers.
+	 * 
+	 * @throws IllegalStateException If there is a pipeline but the dictionary context is not declared thread-safe.
+	 */
+	public default void sendAsync(Player player, DisplayOption displayOption, boolean isItalic, boolean isBold, EColor color, IMinecraftMessageEvent event) {
+		MessagePipeline pipeline = getMessagePipeline();
+		if (pipeline == null) {
+			if (displayOption == null)
+				send(event);
+			else
+				send(player, displayOption, event);
+			return;
+		}
+
+		if (!isDictionaryContextThreadSafe())
+			throw new IllegalStateException("A message pipeline requires a thread-safe dictionary context, see ICodeSender#isDictionaryContextThreadSafe");
+
+		IDictionaryContext context = getNotificationCenter().getDictionaryContext();
+		pipeline.submit(player, () -> {
+			String message = context.getMessage(event);
+			return () -> display(player, displayOption, isItalic, isBold, color, message);
+		});
+	}
+
+	/**
+	 * Display an already translated message on the screen of the given player. If there is a {@link #getMessageCoalescer()
+	 * coalescer} and the message is not displayed in the chat, the message is given to it so that it is dropped if a newer message is
+	 * displayed at the same place during the same tick. If not overridden, the message is displayed by {@link MessageDisplay}, that
+	 * does not go through the notification center: override this method if the notification center displays its messages
+	 * differently.
+	 * 
+	 * @param player        The player that receives the message.
+	 * @param displayOption The place where the message should be displayed on player screen, or null for the chat.
+	 * @param isItalic      If the message should be displayed in italic.
+	 * @param isBold        If the message should be displayed in bold.
+	 * @param color         The message color, or null to keep the default color.
+	 * @param message       The translated message.
+	 */
+	public default void display(Player player, DisplayOption displayOption, boolean isItalic, boolean isBold, EColor color, String message) {
+		MessageCoalescer coalescer = getMessageCoalescer();
+		if (coalescer == null || displayOption == null)
+			MessageDisplay.display(player, displayOption, isItalic, isBold, color, message);
+		else
+			coalescer.submit(player, displayOption, () -> MessageDisplay.display(player, displayOption, isItalic, isBold, color, message));
+	}
+
+	/**
+	 * Send a message to each given player, translated once per locale. This method is synchronized with
+	 * {@link GameRule#SEND_COMMAND_FEEDBACK}. This means that if the game rule has been set to false, then no message is sent.
+	 * 
+	 * @param players       The players that receive the message.
+	 * @param code          Used as key to get the right message in the right dictionary.
+	 * @param displayOption The place where the message should be displayed on player screen.
+	 * @param isItalic      If the message should be displayed in italic.
+	 * @param isBold        If the message should be displayed in bold.
+	 * @param color         The message color.
+	 * @param args          Some arguments (optional) used for dynamic messages.
+	 * 
+	 * @see #broadcast(Collection, IMinecraftMessageCode, DisplayOption, boolean, boolean, EColor, Object...)
+	 */
+	public default void broadcastSynchro(Collection<? extends Player> players, IMinecraftMessageCode code, DisplayOption displayOption, boolean isItalic, boolean isBold,
+			EColor color, Object... args) {
+		if (CommandFeedback.isEnabled())
+			broadcast(players, code, displayOption, isItalic, isBold, color, args);
+	}
+
+	/**
+	 * Send a message to each given player, translated once per locale. This method is synchronized with
+	 * {@link GameRule#SEND_COMMAND_FEEDBACK}. This means that if the game rule has been set to false, then no message is sent.
+	 * 
+	 * @param players       The players that receive the message.
+	 * @param code          Used as key to get the right message in the right dictionary.
+	 * @param displayOption The place where the message should be displayed on player screen.
+	 * @param color         The message color.
+	 * @param args          Some arguments (optional) used for dynamic messages.
+	 * 
+	 * @see #broadcast(Collection, IMinecraftMessageCode, DisplayOption, boolean, boolean, EColor, Object...)
+	 */
+	public default void broadcastSynchro(Collection<? extends Player> players, IMinecraftMessageCode code, DisplayOption displayOption, EColor color, Object... args) {
+		if (CommandFeedback.isEnabled())
+			broadcast(players, code, displayOption, false, false, color, args);
+	}
+
+	/**
+	 * Send a message to each given player, translated once per locale. This method is synchronized with
+	 * {@link GameRule#SEND_COMMAND_FEEDBACK}. This means that if the game rule has been set to false, then no message is sent.
+	 * 
+	 * @param players       The players that receive the message.
+	 * @param code          Used as key to get the right message in the right dictionary.
+	 * @param displayOption The place where the message should be displayed on player screen.
+	 * @param args          Some arguments (optional) used for dynamic messages.
+	 * 
+	 * @see #broadcast(Collection, IMinecraftMessageCode, DisplayOption, boolean, boolean, EColor, Object...)
+	 */
+	public default void broadcastSynchro(Collection<? extends Player> players, IMinecraftMessageCode code, DisplayOption displayOption, Object... args) {
+		if (CommandFeedback.isEnabled())
+			broadcast(players, code, displayOption, false, false, null, args);
+	}
+
+	/**
+	 * Send a message to each given player, translated once per locale. This method is synchronized with
+	 * {@link GameRule#SEND_COMMAND_FEEDBACK}. This means that if the game rule has been set to false, then no message is sent.
+	 * 
+	 * @param players The players that receive the message.
+	 * @param code    Used as key to get the right message in the right dictionary.
+	 * @param color   The message color.
+	 * @param args    Some arguments (optional) used for dynamic messages.
+	 * 
+	 * @see #broadcast(Collection, IMinecraftMessageCode, DisplayOption, boolean, boolean, EColor, Object...)
+	 */
+	public default void broadcastSynchro(Collection<? extends Player> players, IMinecraftMessageCode code, EColor color, Object... args) {
+		if (CommandFeedback.isEnabled())
+			broadcast(players, code, null, false, false, color, args);
+	}
+
+	/**
+	 * Send a message to each given player, translated once per locale. This method is synchronized with
+	 * {@link GameRule#SEND_COMMAND_FEEDBACK}. This means that if the game rule has been set to false, then no message is sent.
+	 * 
+	 * @param players The players that receive the message.
+	 * @param code    Used as key to get the right message in the right dictionary.
+	 * @param args    Some arguments (optional) used for dynamic messages.
+	 * 
+	 * @see #broadcast(Collection, IMinecraftMessageCode, DisplayOption, boolean, boolean, EColor, Object...)
+	 */
+	public default void broadcastSynchro(Collection<? extends Player> players, IMinecraftMessageCode code, Object... args) {
+		if (CommandFeedback.isEnabled())
+			broadcast(players, code, null, false, false, null, args);
+	}
+
+	/**
+	 * Send a message to each given player, translated once per locale. This method send a message even if the game rule
+	 * {@link GameRule#SEND_COMMAND_FEEDBACK} is set to false.
+	 * 
+	 * @param players       The players that receive the message.
+	 * @param code          Used as key to get the right message in the right dictionary.
+	 * @param displayOption The place where the message should be displayed on player screen.
+	 * @param isItalic      If the message should be displayed in italic.
+	 * @param isBold        If the message should be displayed in bold.
+	 * @param color         The message color.
+	 * @param args          Some arguments (optional) used for dynamic messages.
+	 * 
+	 * @see #broadcast(Collection, IMinecraftMessageCode, DisplayOption, boolean, boolean, EColor, Object...)
+	 */
+	public default void broadcastNotSynchro(Collection<? extends Player> players, IMinecraftMessageCode code, DisplayOption displayOption, boolean isItalic, boolean isBold,
+			EColor color, Object... args) {
+		broadcast(players, code, displayOption, isItalic, isBold, color, args);
+	}
+
+	/**
+	 * Send a message to each given player, translated once per locale. This method send a message even if the game rule
+	 * {@link GameRule#SEND_COMMAND_FEEDBACK} is set to false.
+	 * 
+	 * @param players       The players that receive the message.
+	 * @param code          Used as key to get the right message in the right dictionary.
+	 * @param displayOption The place where the message should be displayed on player screen.
+	 * @param color         The message color.
+	 * @param args          Some arguments (optional) used for dynamic messages.
+	 * 
+	 * @see #broadcast(Collection, IMinecraftMessageCode, DisplayOption, boolean, boolean, EColor, Object...)
+	 */
+	public default void broadcastNotSynchro(Collection<? extends Player> players, IMinecraftMessageCode code, DisplayOption displayOption, EColor color, Object... args) {
+		broadcast(players, code, displayOption, false, false, color, args);
+	}
+
+	/**
+	 * Send a message to each given player, translated once per locale. This method send a message even if the game rule
+	 * {@link GameRule#SEND_COMMAND_FEEDBACK} is set to false.
+	 * 
+	 * @param players       The players that receive the message.
+	 * @param code          Used as key to get the right message in the right dictionary.
+	 * @param displayOption The place where the message should be displayed on player screen.
+	 * @param args          Some arguments (optional) used for dynamic messages.
+	 * 
+	 * @see #broadcast(Collection, IMinecraftMessageCode, DisplayOption, boolean, boolean, EColor, Object...)
+	 */
+	public default void broadcastNotSynchro(Collection<? extends Player> players, IMinecraftMessageCode code, DisplayOption displayOption, Object... args) {
+		broadcast(players, code, displayOption, false, false, null, args);
+	}
+
+	/**
+	 * Send a message to each given player, translated once per locale. This method send a message even if the game rule
+	 * {@link GameRule#SEND_COMMAND_FEEDBACK} is set to false.
+	 * 
+	 * @param players The players that receive the message.
+	 * @param code    Used as key to get the right message in the right dictionary.
+	 * @param color   The message color.
+	 * @param args    Some arguments (optional) used for dynamic messages.
+	 * 
+	 * @see #broadcast(Collection, IMinecraftMessageCode, DisplayOption, boolean, boolean, EColor, Object...)
+	 */
+	public default void broadcastNotSynchro(Collection<? extends Player> players, IMinecraftMessageCode code, EColor color, Object... args) {
+		broadcast(players, code, null, false, false, color, args);
+	}
+
+	/**
+	 * Send a message to each given player, translated once per locale. This method send a message even if the game rule
+	 * {@link GameRule#SEND_COMMAND_FEEDBACK} is set to false.
+	 * 
+	 * @param players The players that receive the message.
+	 * @param code    Used as key to get the right message in the right dictionary.
+	 * @param args    Some arguments (optional) used for dynamic messages.
+	 * 
+	 * @see #broadcast(Collection, IMinecraftMessageCode, DisplayOption, boolean, boolean, EColor, Object...)
+	 */
+	public default void broadcastNotSynchro(Collection<? extends Player> players, IMinecraftMessageCode code, Object... args) {
+		broadcast(players, code, null, false, false, null, args);
+	}
+
+	/**
+	 * Translate the message associated to the given code once for each locale of the given players, using the
+	 * {@link #getMessageTemplates() templates} if any, then display the translation to every player having this locale using
+	 * {@link #display(Player, DisplayOption, boolean, boolean, EColor, String)}. The players are grouped by locale so that the message
+	 * is translated once per locale instead of once per player. The message is not sent through the notification center, but the
+	 * permission of the code is still checked for each player: a message whose code has the permission {@link Permission#OPERATORS}
+	 * is only displayed to the operators.
+	 * 
+	 * @param players       The players that receive the message.
+	 * @param code          Used as key to get the right message in the right dictionary.
+	 * @param displayOption The place where the message should be displayed on player screen, or null for the chat.
+	 * @param isItalic      If the message should be displayed in italic.
+	 * @param isBold        If the message should be displayed in bold.
+	 * @param color         The message color, or null to keep the default color.
+	 * @param args          Some arguments (optional) used for dynamic messages.
+	 */
+	public default void broadcast(Collection<? extends Player> players, IMinecraftMessageCode code, DisplayOption displayOption, boolean isItalic, boolean isBold,
+			EColor color, Object... args) {
+		Map<String, List<Player>> byLocale = new HashMap<String, List<Player>>();
+		boolean isOperatorsOnly = code.getPermission() == Permission.OPERATORS;
+		for (Player player : players)
+			if (!isOperatorsOnly || player.isOp())
+				byLocale.computeIfAbsent(player.getLocale(), locale -> new ArrayList<Player>()).add(player);
+
+		for (List<Player> group : byLocale.values()) {
+			// The translation only depends on the locale, any player of the group can be used to get it.
+			String message = getMessage(group.get(0), code, args);
+			for (Player player : group)
+				display(player, displayOption, isItalic, isBold, color, message);
+		}
+	}
+
 	/**
 	 * Get a message corresponding to the given message code.
 	 * 
@@ -324,7 +950,13 @@ public interface ICodeSender {
 	 * @return The message associated to the specified code. If the sender is not a player, then it returns an empty string.
 	 */
 	public default String getMessage(CommandSender sender, IMinecraftMessageCode code, Object... args) {
-		return sender instanceof Player ? getNotificationCenter().getDictionaryContext().getMessage(event((Player) sender, code, args)) : "";
+		if (!(sender instanceof Player))
+			return "";
+
+		MessageTemplates templates = getMessageTemplates();
+		if (templates != null)
+			return templates.getMessage((Player) sender, code, args);
+		return getNotificationCenter().getDictionaryContext().getMessage(event((Player) sender, code, args));
 	}
 
 	/**
@@ -474,6 +1106,22 @@ public interface ICodeSender {
 		return new MinecraftMessageEvent(code, args);
 	}
 
+	/**
+	 * Send a message based on the given event to the given player. If there is a {@link #getMessageCoalescer() coalescer}, the
+	 * message is given to it so that it is dropped if a newer message is displayed at the same place during the same tick.
+	 * 
+	 * @param player        The player that receives the message.
+	 * @param displayOption The place where the message should be displayed on player screen.
+	 * @param event         The event that contains the message to send and its modifiers (italic, bold, color).
+	 */
+	public default void send(Player player, DisplayOption displayOption, IMinecraftMessageEvent event) {
+		MessageCoalescer coalescer = getMessageCoalescer();
+		if (coalescer == null)
+			send(event);
+		else
+			coalescer.submit(player, displayOption, () -> send(event));
+	}
+
 	/**
 	 * Send a message based on the given event.
 	 * 
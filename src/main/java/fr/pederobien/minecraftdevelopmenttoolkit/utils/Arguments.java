@@ -0,0 +1,138 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.utils;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.StringJoiner;
+
+/**
+ * Read-only view of the arguments of a command, starting at a given offset. Moving down in a command tree creates a new view on
+ * the same array instead of copying the remaining arguments.
+ */
+public final class Arguments implements Iterable<String> {
+	private static final String[] EMPTY = new String[0];
+	private final String[] args;
+	private final int offset;
+
+	private Arguments(String[] args, int offset) {
+		this.args = args;
+		this.offset = offset;
+	}
+
+	/**
+	 * Creates a view on the given array. The array should not be modified while the view is used.
+	 *
+	 * @param args The arguments of the command.
+	 *
+	 * @return A view that starts at the first argument of the given array.
+	 */
+	public static Arguments of(String... args) {
+		return new Arguments(args == null ? EMPTY : args, 0);
+	}
+
+	/**
+	 * @return The number of arguments in this view.
+	 */
+	public int length() {
+		return args.length - offset;
+	}
+
+	/**
+	 * @return True if this view does not contain any argument, false otherwise.
+	 */
+	public boolean isEmpty() {
+		return offset == args.length;
+	}
+
+	/**
+	 * @param index The index of the argument in this view.
+	 *
+	 * @return The argument at the given index.
+	 *
+	 * @throws ArrayIndexOutOfBoundsException If the index is negative or greater than or equal to {@link #length()}.
+	 */
+	public String get(int index) {
+		if (index < 0 || index >= length())
+			throw new ArrayIndexOutOfBoundsException(index);
+		return args[offset + index];
+	}
+
+	/**
+	 * Equivalent to <code>get(length() - 1)</code>.
+	 *
+	 * @return The last argument of this view.
+	 *
+	 * @throws ArrayIndexOutOfBoundsException If this view is empty.
+	 */
+	public String last() {
+		return get(length() - 1);
+	}
+
+	/**
+	 * Creates a view that starts <code>from</code> arguments after the beginning of this view. The underlying array is not copied.
+	 *
+	 * @param from The number of arguments to skip, between 0 and {@link #length()} inclusive.
+	 *
+	 * @return A view on the remaining arguments.
+	 *
+	 * @throws ArrayIndexOutOfBoundsException If from is negative or greater than {@link #length()}.
+	 */
+	public Arguments from(int from) {
+		if (from < 0 || from > length())
+			throw new ArrayIndexOutOfBoundsException(from);
+		return from == 0 ? this : new Arguments(args, offset + from);
+	}
+
+	/**
+	 * Returns the arguments of this view as an array, for editions that still work with arrays. The arguments are always copied into
+	 * a new array, so that modifying it does not change the arguments seen by the other editions.
+	 *
+	 * @return A new array that contains the arguments of this view.
+	 */
+	public String[] toArray() {
+		return toArray(length());
+	}
+
+	/**
+	 * Returns the first arguments of this view as a new array.
+	 *
+	 * @param length The number of arguments to copy, between 0 and {@link #length()} inclusive.
+	 *
+	 * @return A new array that contains the first <code>length</code> arguments of this view.
+	 *
+	 * @throws ArrayIndexOutOfBoundsException If length is negative or greater than {@link #length()}.
+	 */
+	public String[] toArray(int length) {
+		if (length < 0 || length > length())
+			throw new ArrayIndexOutOfBoundsException(length);
+		String[] copy = new String[length];
+		System.arraycopy(args, offset, copy, 0, length);
+		return copy;
+	}
+
+	@Override
+	public Iterator<String> iterator() {
+		return new Iterator<String>() {
+			private int index = offset;
+
+			@Override
+			public boolean hasNext() {
+				return index < args.length;
+			}
+
+			@Override
+			public String next() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+				return args[index++];
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		StringJoiner joiner = new StringJoiner(", ", "[", "]");
+		for (int i = offset; i < args.length; i++)
+			joiner.add(args[i]);
+		return joiner.toString();
+	}
+}
@@ -0,0 +1,125 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled {@link DecimalFormat} pattern that can be used by several threads at the same time. Simple patterns such as
+ * <code>"#.##"</code> or <code>"0.00"</code>, without grouping, prefix or suffix, are formatted directly from the digits of the
+ * number. The other patterns are formatted by a {@link DecimalFormat} owned by the calling thread. In both cases, the result is the
+ * same as {@link DecimalFormat#format(double)}.
+ */
+public final class DecimalPattern {
+	private static final Map<String, DecimalPattern> PATTERNS = new ConcurrentHashMap<String, DecimalPattern>();
+	private static final long[] POWERS_OF_TEN = { 1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L };
+	// Above this value, the rounding error of the scaled number may hide a tie.
+	private static final double MAX_SCALED = 0x1p43;
+
+	private final String pattern;
+	private final ThreadLocal<DecimalFormat> formats;
+	private final boolean isSimple;
+	private final int minimumIntegerDigits, minimumFractionDigits, maximumFractionDigits;
+	private final char zero, decimalSeparator, minus;
+
+	private DecimalPattern(String pattern) {
+		this.pattern = pattern;
+		formats = ThreadLocal.withInitial(this::createFormat);
+
+		DecimalFormat format = createFormat();
+		DecimalFormatSymbols symbols = format.getDecimalFormatSymbols();
+		minimumIntegerDigits = format.getMinimumIntegerDigits();
+		minimumFractionDigits = format.getMinimumFractionDigits();
+		maximumFractionDigits = format.getMaximumFractionDigits();
+		zero = symbols.getZeroDigit();
+		decimalSeparator = symbols.getDecimalSeparator();
+		minus = symbols.getMinusSign();
+
+		boolean isPlain = format.getPositivePrefix().isEmpty() && format.getPositiveSuffix().isEmpty() && format.getNegativeSuffix().isEmpty()
+				&& format.getNegativePrefix().equals(String.valueOf(minus));
+		boolean isSimpleRounding = format.getRoundingMode() == RoundingMode.HALF_EVEN && format.getMultiplier() == 1;
+		boolean isSimpleLayout = !format.isGroupingUsed() && !format.isDecimalSeparatorAlwaysShown() && minimumIntegerDigits <= 1
+				&& format.getMaximumIntegerDigits() >= 16 && maximumFractionDigits < POWERS_OF_TEN.length;
+		isSimple = isPlain && isSimpleRounding && isSimpleLayout;
+	}
+
+	/**
+	 * Get the compiled pattern associated to the given pattern. Patterns are compiled once and then shared by all threads.
+	 *
+	 * @param pattern A pattern as described by {@link DecimalFormat}.
+	 *
+	 * @return The compiled pattern.
+	 *
+	 * @throws IllegalArgumentException If the given pattern is invalid.
+	 */
+	public static DecimalPattern of(String pattern) {
+		DecimalPattern compiled = PATTERNS.get(pattern);
+		return compiled != null ? compiled : PATTERNS.computeIfAbsent(pattern, DecimalPattern::new);
+	}
+
+	/**
+	 * @return The pattern used to format numbers.
+	 */
+	public String getPattern() {
+		return pattern;
+	}
+
+	/**
+	 * Format the given number using this pattern.
+	 *
+	 * @param number The number to format.
+	 *
+	 * @return The formatted number.
+	 *
+	 * @see DecimalFormat#format(double)
+	 */
+	public String format(double number) {
+		if (!isSimple || Double.isNaN(number) || Double.isInfinite(number))
+			return formats.get().format(number);
+
+		boolean isNegative = Double.doubleToRawLongBits(number) < 0;
+		double scaled = Math.abs(number) * POWERS_OF_TEN[maximumFractionDigits];
+		if (scaled >= MAX_SCALED)
+			return formats.get().format(number);
+
+		long units = (long) scaled;
+		double remainder = scaled - units;
+		if (Math.abs(remainder - 0.5) < 1e-3)
+			// Possible tie, the exact value of the number decides.
+			units = new BigDecimal(Math.abs(number)).setScale(maximumFractionDigits, RoundingMode.HALF_EVEN).unscaledValue().longValue();
+		else if (remainder > 0.5)
+			units++;
+
+		long integer = units / POWERS_OF_TEN[maximumFractionDigits];
+		long fraction = units % POWERS_OF_TEN[maximumFractionDigits];
+		int fractionDigits = maximumFractionDigits;
+		while (fractionDigits > minimumFractionDigits && fraction % 10 == 0) {
+			fraction /= 10;
+			fractionDigits--;
+		}
+
+		char[] chars = new char[21 + fractionDigits];
+		int end = chars.length, position = end;
+		for (int i = 0; i < fractionDigits; i++, fraction /= 10)
+			chars[--position] = (char) (zero + fraction % 10);
+		if (fractionDigits > 0)
+			chars[--position] = decimalSeparator;
+		if (integer != 0 || minimumIntegerDigits > 0 || fractionDigits == 0)
+			do {
+				chars[--position] = (char) (zero + integer % 10);
+				integer /= 10;
+			} while (integer != 0);
+		if (isNegative)
+			chars[--position] = minus;
+		return new String(chars, position, end - position);
+	}
+
+	private DecimalFormat createFormat() {
+		DecimalFormat format = new DecimalFormat();
+		format.applyPattern(pattern);
+		return format;
+	}
+}
@@ -10,7 +10,6 @@ import org.bukkit.NamespacedKey;
 import org.bukkit.block.Block;
 
 public class DisplayHelper {
-	private static DecimalFormat decimalFormat = new DecimalFormat();
 
 	/**
 	 * Method used to display the given time to minecraft player.
@@ -89,17 +88,17 @@ public class DisplayHelper {
 	}
 
 	/**
-	 * Format the given number using the specified pattern.
+	 * Format the given number using the specified pattern. This method can be called from any thread.
 	 * 
 	 * @param pattern The pattern used to format the number.
 	 * @param number  The number to format.
 	 * @return The formatted number.
 	 * 
 	 * @see DecimalFormat#format(double)
+	 * @see DecimalPattern
 	 */
 	public static String format(String pattern, double number) {
-		decimalFormat.applyPattern(pattern);
-		return decimalFormat.format(number);
+		return DecimalPattern.of(pattern).format(number);
 	}
 
 	/**
@@ -0,0 +1,324 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.utils;
+
+import fr.pederobien.minecraftdevelopmenttoolkit.exceptions.BooleanParseException;
+
+/**
+ * Validators for the arguments typed by players. Each validator scans the characters of the argument and accepts exactly what the
+ * corresponding JDK parser accepts, without allocating anything nor throwing an exception when the argument is not valid. The
+ * validators can be used on a range of a {@link CharSequence} so that a command line does not need to be split first.
+ */
+public class ParseHelper {
+	private static final String NAN = "NaN", INFINITY = "Infinity";
+	private static final long INVALID_INT = Long.MIN_VALUE;
+
+	/**
+	 * @param text The text to check.
+	 *
+	 * @return True if the text is accepted by {@link Integer#parseInt(String)}, false otherwise.
+	 */
+	public static boolean isInt(CharSequence text) {
+		return text != null && isInt(text, 0, text.length());
+	}
+
+	/**
+	 * @param text  The text that contains the integer.
+	 * @param start The index of the first character of the integer, inclusive.
+	 * @param end   The index of the last character of the integer, exclusive.
+	 *
+	 * @return True if the characters between start and end are accepted by {@link Integer#parseInt(String)}, false otherwise.
+	 */
+	public static boolean isInt(CharSequence text, int start, int end) {
+		return scanInt(text, start, end) != INVALID_INT;
+	}
+
+	/**
+	 * Parses the characters between start and end as a signed decimal integer, exactly as {@link Integer#parseInt(String)} would do
+	 * on the corresponding string.
+	 *
+	 * @param text  The text that contains the integer.
+	 * @param start The index of the first character of the integer, inclusive.
+	 * @param end   The index of the last character of the integer, exclusive.
+	 *
+	 * @return The integer value represented by the characters.
+	 *
+	 * @throws NumberFormatException If the characters do not represent a parsable integer.
+	 */
+	public static int parseInt(CharSequence text, int start, int end) {
+		long value = scanInt(text, start, end);
+		if (value == INVALID_INT)
+			throw new NumberFormatException(text == null ? "null" : "For input string: \"" + text.subSequence(start, end) + "\"");
+		return (int) value;
+	}
+
+	/**
+	 * @param text The text to check.
+	 *
+	 * @return True if the text is accepted by {@link Double#parseDouble(String)}, false otherwise.
+	 */
+	public static boolean isDouble(CharSequence text) {
+		return text != null && isDouble(text, 0, text.length());
+	}
+
+	/**
+	 * Checks the characters between start and end against the grammar of {@link Double#valueOf(String)} : leading and trailing
+	 * whitespace, optional sign, <code>NaN</code>, <code>Infinity</code>, decimal digits with an optional point and exponent,
+	 * hexadecimal floating point literals and an optional <code>f</code>, <code>F</code>, <code>d</code> or <code>D</code> suffix.
+	 *
+	 * @param text  The text that contains the double.
+	 * @param start The index of the first character of the double, inclusive.
+	 * @param end   The index of the last character of the double, exclusive.
+	 *
+	 * @return True if the characters between start and end are accepted by {@link Double#parseDouble(String)}, false otherwise.
+	 */
+	public static boolean isDouble(CharSequence text, int start, int end) {
+		// Same whitespace as String.trim()
+		while (start < end && text.charAt(start) <= ' ')
+			start++;
+		while (start < end && text.charAt(end - 1) <= ' ')
+			end--;
+		if (start == end)
+			return false;
+
+		int i = start;
+		char c = text.charAt(i);
+		if (c == '-' || c == '+') {
+			if (++i == end)
+				return false;
+			c = text.charAt(i);
+		}
+
+		if (c == 'N')
+			return regionEquals(text, i, end, NAN);
+		if (c == 'I')
+			return regionEquals(text, i, end, INFINITY);
+		if (c == '0' && i + 1 < end && (text.charAt(i + 1) == 'x' || text.charAt(i + 1) == 'X'))
+			return isHexDouble(text, i + 2, end);
+
+		boolean hasDigit = false, hasPoint = false;
+		for (; i < end; i++) {
+			c = text.charAt(i);
+			if (c >= '0' && c <= '9')
+				hasDigit = true;
+			else if (c == '.') {
+				if (hasPoint)
+					return false;
+				hasPoint = true;
+			} else
+				break;
+		}
+		if (!hasDigit)
+			return false;
+
+		if (i < end && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+			i++;
+			if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+'))
+				i++;
+			int exponentStart = i;
+			while (i < end && text.charAt(i) >= '0' && text.charAt(i) <= '9')
+				i++;
+			if (i == exponentStart)
+				return false;
+		}
+		return i == end || i == end - 1 && isDoubleSuffix(text.charAt(i));
+	}
+
+	/**
+	 * Parses the characters between start and end as a double, exactly as {@link Double#parseDouble(String)} would do on the
+	 * corresponding string. The characters are validated first so that no exception is created for a not valid double, the
+	 * conversion itself is done by the JDK.
+	 *
+	 * @param text  The text that contains the double.
+	 * @param start The index of the first character of the double, inclusive.
+	 * @param end   The index of the last character of the double, exclusive.
+	 *
+	 * @return The double value represented by the characters.
+	 *
+	 * @throws NumberFormatException If the characters do not represent a parsable double.
+	 */
+	public static double parseDouble(CharSequence text, int start, int end) {
+		String value = text.subSequence(start, end).toString();
+		if (!isDouble(text, start, end))
+			throw new NumberFormatException("For input string: \"" + value + "\"");
+		return Double.parseDouble(value);
+	}
+
+	/**
+	 * @param text The text to check.
+	 *
+	 * @return True if the text is accepted by {@link java.time.LocalTime#parse(CharSequence)}, false otherwise.
+	 */
+	public static boolean isTime(CharSequence text) {
+		return text != null && isTime(text, 0, text.length());
+	}
+
+	/**
+	 * Checks the characters between start and end against {@link java.time.format.DateTimeFormatter#ISO_LOCAL_TIME} : two digits for
+	 * the hour, two digits for the minutes, optionally two digits for the seconds, optionally followed by a point and up to nine
+	 * digits for the fraction of second.
+	 *
+	 * @param text  The text that contains the time.
+	 * @param start The index of the first character of the time, inclusive.
+	 * @param end   The index of the last character of the time, exclusive.
+	 *
+	 * @return True if the characters between start and end are accepted by {@link java.time.LocalTime#parse(CharSequence)}, false
+	 *         otherwise.
+	 */
+	public static boolean isTime(CharSequence text, int start, int end) {
+		int length = end - start;
+		if (length != 5 && length < 8)
+			return false;
+		if (twoDigits(text, start) > 23 || text.charAt(start + 2) != ':' || twoDigits(text, start + 3) > 59)
+			return false;
+		if (length == 5)
+			return true;
+
+		if (text.charAt(start + 5) != ':' || twoDigits(text, start + 6) > 59)
+			return false;
+		if (length == 8)
+			return true;
+
+		// The point may be followed by no digit, the fraction of second is at most nine digits long
+		if (text.charAt(start + 8) != '.' || length > 18)
+			return false;
+		for (int i = start + 9; i < end; i++)
+			if (text.charAt(i) < '0' || text.charAt(i) > '9')
+				return false;
+		return true;
+	}
+
+	/**
+	 * @param text The text to check.
+	 *
+	 * @return True if the text equals, ignoring case, to {@code "true"} or {@code "false"}, false otherwise.
+	 */
+	public static boolean isBoolean(CharSequence text) {
+		return text != null && isBoolean(text, 0, text.length());
+	}
+
+	/**
+	 * @param text  The text that contains the boolean.
+	 * @param start The index of the first character of the boolean, inclusive.
+	 * @param end   The index of the last character of the boolean, exclusive.
+	 *
+	 * @return True if the characters between start and end equal, ignoring case, to {@code "true"} or {@code "false"}, false
+	 *         otherwise.
+	 */
+	public static boolean isBoolean(CharSequence text, int start, int end) {
+		return regionEqualsIgnoreCase(text, start, end, "true") || regionEqualsIgnoreCase(text, start, end, "false");
+	}
+
+	/**
+	 * Parses the characters between start and end as a boolean.
+	 *
+	 * @param text  The text that contains the boolean.
+	 * @param start The index of the first character of the boolean, inclusive.
+	 * @param end   The index of the last character of the boolean, exclusive.
+	 *
+	 * @return True if the characters equal, ignoring case, to {@code "true"}, false if they equal, ignoring case, to {@code "false"}.
+	 *
+	 * @throws BooleanParseException If the characters are neither equal, ignoring case, to {@code "true"} nor {@code "false"}.
+	 */
+	public static boolean parseBoolean(CharSequence text, int start, int end) {
+		if (regionEqualsIgnoreCase(text, start, end, "true"))
+			return true;
+		if (regionEqualsIgnoreCase(text, start, end, "false"))
+			return false;
+		throw new BooleanParseException(text.subSequence(start, end).toString());
+	}
+
+	private static long scanInt(CharSequence text, int start, int end) {
+		// Same algorithm as Integer.parseInt : accumulates negatively to reach Integer.MIN_VALUE
+		if (text == null || start >= end)
+			return INVALID_INT;
+
+		int i = start;
+		boolean negative = false;
+		int limit = -Integer.MAX_VALUE;
+		char first = text.charAt(i);
+		if (first < '0') {
+			if (first == '-') {
+				negative = true;
+				limit = Integer.MIN_VALUE;
+			} else if (first != '+')
+				return INVALID_INT;
+
+			if (end - start == 1)
+				return INVALID_INT;
+			i++;
+		}
+
+		int multiplyLimit = limit / 10;
+		int result = 0;
+		while (i < end) {
+			int digit = Character.digit(text.charAt(i++), 10);
+			if (digit < 0 || result < multiplyLimit)
+				return INVALID_INT;
+			result *= 10;
+			if (result < limit + digit)
+				return INVALID_INT;
+			result -= digit;
+		}
+		return negative ? result : -result;
+	}
+
+	private static boolean isHexDouble(CharSequence text, int i, int end) {
+		// Grammar : hexdigits ['.'] | [hexdigits] '.' hexdigits, then [pP] [sign] digits [fFdD]
+		boolean hasDigit = false, hasPoint = false;
+		for (; i < end; i++) {
+			char c = text.charAt(i);
+			if (Character.digit(c, 16) >= 0 && c < 128)
+				hasDigit = true;
+			else if (c == '.' && !hasPoint)
+				hasPoint = true;
+			else
+				break;
+		}
+		if (!hasDigit || i == end || (text.charAt(i) != 'p' && text.charAt(i) != 'P'))
+			return false;
+
+		i++;
+		if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+'))
+			i++;
+		int exponentStart = i;
+		while (i < end && text.charAt(i) >= '0' && text.charAt(i) <= '9')
+			i++;
+		if (i == exponentStart)
+			return false;
+		return i == end || i == end - 1 && isDoubleSuffix(text.charAt(i));
+	}
+
+	private static boolean isDoubleSuffix(char c) {
+		return c == 'f' || c == 'F' || c == 'd' || c == 'D';
+	}
+
+	private static int twoDigits(CharSequence text, int index) {
+		char tens = text.charAt(index), units = text.charAt(index + 1);
+		if (tens < '0' || tens > '9' || units < '0' || units > '9')
+			return Integer.MAX_VALUE;
+		return (tens - '0') * 10 + units - '0';
+	}
+
+	private static boolean regionEquals(CharSequence text, int start, int end, String expected) {
+		if (end - start != expected.length())
+			return false;
+		for (int i = 0; i < expected.length(); i++)
+			if (text.charAt(start + i) != expected.charAt(i))
+				return false;
+		return true;
+	}
+
+	private static boolean regionEqualsIgnoreCase(CharSequence text, int start, int end, String expected) {
+		if (end - start != expected.length())
+			return false;
+		for (int i = 0; i < expected.length(); i++) {
+			char c = text.charAt(start + i), e = expected.charAt(i);
+			if (c == e)
+				continue;
+			// Same comparison as String.equalsIgnoreCase
+			char upper = Character.toUpperCase(c), expectedUpper = Character.toUpperCase(e);
+			if (upper != expectedUpper && Character.toLowerCase(upper) != Character.toLowerCase(expectedUpper))
+				return false;
+		}
+		return true;
+	}
+}
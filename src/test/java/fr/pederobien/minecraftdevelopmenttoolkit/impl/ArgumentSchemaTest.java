@@ -0,0 +1,78 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
+
+import org.bukkit.command.CommandSender;
+import org.junit.jupiter.api.Test;
+
+import fr.pederobien.minecraftdevelopmenttoolkit.interfaces.IArgumentType;
+import fr.pederobien.minecraftdevelopmenttoolkit.utils.Arguments;
+
+public class ArgumentSchemaTest {
+	private static final CommandSender SENDER = sender();
+
+	@Test
+	public void reusableValuesAreNotConvertedAgain() {
+		CountingType type = new CountingType(true);
+		ArgumentSchema schema = new ArgumentSchema().add("first", type).add("second", type);
+
+		schema.complete(SENDER, Arguments.of("a", ""));
+		ParsedArguments parsed = schema.parse(SENDER, Arguments.of("a", "b"));
+		assertEquals(2, type.count);
+		assertEquals("a", parsed.get("first"));
+		assertEquals("b", parsed.get("second"));
+	}
+
+	@Test
+	public void otherValuesAreConvertedAgain() {
+		CountingType type = new CountingType(false);
+		ArgumentSchema schema = new ArgumentSchema().add("first", type).add("second", type);
+
+		schema.complete(SENDER, Arguments.of("a", ""));
+		ParsedArguments parsed = schema.parse(SENDER, Arguments.of("a", "b"));
+		assertEquals(3, type.count);
+		assertEquals("a", parsed.get("first"));
+	}
+
+	private static CommandSender sender() {
+		return (CommandSender) Proxy.newProxyInstance(CommandSender.class.getClassLoader(), new Class<?>[] { CommandSender.class }, (proxy, method, args) -> {
+			switch (method.getName()) {
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "equals":
+				return proxy == args[0];
+			default:
+				return null;
+			}
+		});
+	}
+
+	private static class CountingType implements IArgumentType<String> {
+		private final boolean isReusable;
+		private int count;
+
+		private CountingType(boolean isReusable) {
+			this.isReusable = isReusable;
+		}
+
+		@Override
+		public String parse(String arg) {
+			count++;
+			return arg;
+		}
+
+		@Override
+		public List<String> complete(String arg) {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public boolean isReusable(String value) {
+			return isReusable;
+		}
+	}
+}
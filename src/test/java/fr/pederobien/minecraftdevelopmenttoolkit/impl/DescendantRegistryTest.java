@@ -0,0 +1,45 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class DescendantRegistryTest {
+
+	@Test
+	public void descendantsAreFoundByLabel() {
+		check(false);
+	}
+
+	@Test
+	public void descendantsAreFoundByLabelInConcurrentMode() {
+		check(true);
+	}
+
+	private void check(boolean concurrent) {
+		Edition root = new Edition("root"), first = new Edition("first"), second = new Edition("second");
+		Edition firstLeaf = new Edition("leaf"), secondLeaf = new Edition("leaf");
+		root.setConcurrent(concurrent);
+		first.addEdition(firstLeaf);
+		second.addEdition(secondLeaf);
+		root.addEdition(first).addEdition(second);
+		assertEquals(Arrays.asList(firstLeaf, secondLeaf), root.getChildrenByLabelName("leaf"));
+
+		root.removeEdition(first);
+		assertEquals(Collections.singletonList(secondLeaf), root.getChildrenByLabelName("leaf"));
+		assertEquals(Collections.emptyList(), root.getChildrenByLabelName("first"));
+
+		root.removeEdition(second);
+		assertEquals(Collections.emptyList(), root.getChildrenByLabelName("leaf"));
+	}
+
+	private static class Edition extends AbstractGenericSimpleMapEdition<String> {
+
+		private Edition(String label) {
+			super(label, label);
+		}
+	}
+}
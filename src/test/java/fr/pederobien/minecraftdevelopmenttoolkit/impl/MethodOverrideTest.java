@@ -0,0 +1,71 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.impl;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class MethodOverrideTest {
+	private static final MethodOverride GET = new MethodOverride(Base.class, "get", String.class);
+	private static final MethodOverride HIDDEN = new MethodOverride(Base.class, "hidden", String.class);
+	private static final MethodOverride SHARED = new MethodOverride(Base.class, "shared", String.class);
+
+	@Test
+	public void baseClassDoesNotOverride() {
+		assertFalse(GET.isOverriddenBy(new Base()));
+	}
+
+	@Test
+	public void overridingMethodIsDetected() {
+		assertTrue(GET.isOverriddenBy(new Overriding()));
+	}
+
+	@Test
+	public void overridingMethodOfSuperClassIsDetected() {
+		assertTrue(GET.isOverriddenBy(new Overriding() {
+		}));
+	}
+
+	@Test
+	public void privateMethodWithSameSignatureIsIgnored() {
+		assertFalse(HIDDEN.isOverriddenBy(new Hiding()));
+	}
+
+	@Test
+	public void staticMethodWithSameSignatureIsIgnored() {
+		assertFalse(SHARED.isOverriddenBy(new Hiding()));
+	}
+
+	private static class Base {
+		protected int get(String value) {
+			return 0;
+		}
+
+		@SuppressWarnings("unused")
+		private int hidden(String value) {
+			return 0;
+		}
+
+		protected static int shared(String value) {
+			return 0;
+		}
+	}
+
+	private static class Overriding extends Base {
+		@Override
+		protected int get(String value) {
+			return 1;
+		}
+	}
+
+	private static class Hiding extends Base {
+		@SuppressWarnings("unused")
+		private int hidden(String value) {
+			return 1;
+		}
+
+		protected static int shared(String value) {
+			return 1;
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.impl;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the strict parsing methods of an edition use the fast validation when the parsers are not overridden, and still call
+ * the parsers when they are.
+ */
+public class StrictParsingTest {
+
+	@Test
+	public void defaultParsersAreValidatedWithoutException() {
+		Edition edition = new Edition("default");
+		assertTrue(edition.isStrictInt("-12"));
+		assertFalse(edition.isStrictInt("12a"));
+		assertTrue(edition.isStrictDouble("1.5e3"));
+		assertFalse(edition.isStrictDouble("1.5e"));
+		assertTrue(edition.isStrictTime("10:15:30"));
+		assertFalse(edition.isStrictTime("10:60"));
+	}
+
+	@Test
+	public void overriddenParsersAreCalled() {
+		Edition edition = new Edition("overridden") {
+			@Override
+			protected int getInt(String number) {
+				return Integer.parseInt(number.replace('_', '0'));
+			}
+
+			@Override
+			protected double getDouble(String number) {
+				return Double.parseDouble(number.replace(',', '.'));
+			}
+		};
+		assertTrue(edition.isStrictInt("1_2"));
+		assertFalse(edition.isStrictInt("12a"));
+		assertTrue(edition.isStrictDouble("1,5"));
+		assertFalse(edition.isStrictDouble("1,5,"));
+		assertTrue(edition.isStrictTime("10:15"));
+	}
+
+	private static class Edition extends AbstractGenericSimpleMapEdition<String> {
+
+		private Edition(String label) {
+			super(label, label);
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class TreeVersionTest {
+
+	@Test
+	public void modificationOfDescendantChangesVersionOfAncestors() {
+		Edition root = new Edition("root"), child = new Edition("child"), leaf = new Edition("leaf");
+		root.addEdition(child);
+		child.addEdition(leaf);
+
+		long rootVersion = root.getTreeVersion(), childVersion = child.getTreeVersion();
+		leaf.setAvailable(false);
+		assertTrue(root.getTreeVersion() != rootVersion);
+		assertTrue(child.getTreeVersion() != childVersion);
+	}
+
+	@Test
+	public void modificationOfOtherTreeDoesNotChangeVersion() {
+		Edition root = new Edition("root"), other = new Edition("other");
+		root.addEdition(new Edition("child"));
+
+		long version = root.getTreeVersion();
+		other.addEdition(new Edition("child"));
+		other.setAvailable(false);
+		assertEquals(version, root.getTreeVersion());
+	}
+
+	@Test
+	public void removedChildNoLongerChangesVersionOfFormerParent() {
+		Edition root = new Edition("root"), child = new Edition("child");
+		root.addEdition(child);
+		root.removeEdition(child);
+
+		long version = root.getTreeVersion();
+		child.setAvailable(false);
+		assertEquals(version, root.getTreeVersion());
+	}
+
+	@Test
+	public void availableLabelsFollowAvailabilityOfChildren() {
+		Edition root = new Edition("root"), first = new Edition("first"), second = new Edition("second");
+		root.addEdition(second).addEdition(first);
+		assertEquals(Arrays.asList("first", "second"), root.getAvailableLabels());
+
+		first.setAvailable(false);
+		assertEquals(Collections.singletonList("second"), root.getAvailableLabels());
+
+		first.setAvailable(true);
+		assertEquals(Arrays.asList("first", "second"), root.getAvailableLabels());
+	}
+
+	private static class Edition extends AbstractGenericSimpleMapEdition<String> {
+
+		private Edition(String label) {
+			super(label, label);
+		}
+	}
+}
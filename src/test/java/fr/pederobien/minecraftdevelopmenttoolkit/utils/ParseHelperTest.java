@@ -0,0 +1,144 @@
+package fr.pederobien.minecraftdevelopmenttoolkit.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Property tests of {@link ParseHelper} : for any text, each validator accepts exactly what the JDK parser it replaces accepts, and
+ * each parser returns the same value. The texts are generated randomly from alphabets that contain the characters the JDK parsers
+ * handle in a special way, completed by a list of corner cases.
+ */
+public class ParseHelperTest {
+	private static final int RUNS = 200000;
+	private static final String INT_ALPHABET = "0123456789+-a \u0661\uFF11";
+	private static final String DOUBLE_ALPHABET = "0123456789+-.eExXpPfFdDaAbNIinfty \t";
+	private static final String TIME_ALPHABET = "0123456789:.+- ";
+	private static final String BOOLEAN_ALPHABET = "tTrRuUeEfFaAlLsS\u017F\u0131x";
+
+	private static final String[] INTS = { "2147483647", "2147483648", "-2147483648", "-2147483649", "+", "-", "", "+0", "-0", "00", "\u0661\u0662",
+			"99999999999", " 1", "1 " };
+	private static final String[] DOUBLES = { "NaN", "-Infinity", "+NaN", "Infinity ", "0x1p3", "0x.8p-2f", "0x1.p1", "0xp1", "0x.p1", "1e", "1e+",
+			"1.e5", ".e5", ".5", ".", "0.", "1f", "1ff", " 1 ", "\u00001\u0000", "1d ", " ", "-", "0x1P+3D", "0x1.8p1 ", "1E2147483648", "4.9e-325",
+			"00", "0xg", "1e-400", "1.7976931348623159e308" };
+	private static final String[] TIMES = { "10:15", "23:59:59.999999999", "23:59:59.", "24:00", "10:15:30.1234567890", "10:60", "00:00:00", "1:15",
+			"10:15:3", "10:15:30.", "-1:00", "" };
+	private static final String[] BOOLEANS = { "true", "TRUE", "False", "fals", "truee", "", "\u0131rue", "fal\u017Fe" };
+
+	private final Random random = new Random(20201018L);
+
+	@Test
+	public void isIntAcceptsWhatIntegerParseIntAccepts() {
+		for (String text : INTS)
+			checkInt(text);
+		for (int i = 0; i < RUNS; i++)
+			checkInt(generate(INT_ALPHABET, 12));
+	}
+
+	@Test
+	public void isDoubleAcceptsWhatDoubleParseDoubleAccepts() {
+		for (String text : DOUBLES)
+			checkDouble(text);
+		for (int i = 0; i < RUNS; i++)
+			checkDouble(generate(DOUBLE_ALPHABET, 10));
+	}
+
+	@Test
+	public void isTimeAcceptsWhatLocalTimeParseAccepts() {
+		for (String text : TIMES)
+			checkTime(text);
+		for (int i = 0; i < RUNS; i++) {
+			checkTime(generate(TIME_ALPHABET, 20));
+			checkTime(generateTime());
+		}
+	}
+
+	@Test
+	public void isBooleanAcceptsTrueAndFalseIgnoringCase() {
+		for (String text : BOOLEANS)
+			checkBoolean(text);
+		for (int i = 0; i < RUNS; i++)
+			checkBoolean(generate(BOOLEAN_ALPHABET, 5));
+	}
+
+	private void checkInt(String text) {
+		boolean expected = isJdkInt(text);
+		assertEquals(expected, ParseHelper.isInt(text), () -> "isInt(\"" + text + "\")");
+		assertEquals(expected, ParseHelper.isInt("[" + text + "]", 1, text.length() + 1), () -> "isInt(\"[" + text + "]\", 1, end)");
+		if (expected)
+			assertEquals(Integer.parseInt(text), ParseHelper.parseInt("[" + text + "]", 1, text.length() + 1), () -> "parseInt(\"" + text + "\")");
+	}
+
+	private void checkDouble(String text) {
+		boolean expected = isJdkDouble(text);
+		assertEquals(expected, ParseHelper.isDouble(text), () -> "isDouble(\"" + text + "\")");
+		assertEquals(expected, ParseHelper.isDouble("[" + text + "]", 1, text.length() + 1), () -> "isDouble(\"[" + text + "]\", 1, end)");
+		if (expected) {
+			long bits = Double.doubleToLongBits(Double.parseDouble(text));
+			double parsed = ParseHelper.parseDouble("[" + text + "]", 1, text.length() + 1);
+			assertEquals(bits, Double.doubleToLongBits(parsed), () -> "parseDouble(\"" + text + "\")");
+		}
+	}
+
+	private void checkTime(String text) {
+		boolean expected = isJdkTime(text);
+		assertEquals(expected, ParseHelper.isTime(text), () -> "isTime(\"" + text + "\")");
+		assertEquals(expected, ParseHelper.isTime("[" + text + "]", 1, text.length() + 1), () -> "isTime(\"[" + text + "]\", 1, end)");
+	}
+
+	private void checkBoolean(String text) {
+		boolean expected = text.equalsIgnoreCase("true") || text.equalsIgnoreCase("false");
+		assertEquals(expected, ParseHelper.isBoolean(text), () -> "isBoolean(\"" + text + "\")");
+		if (expected)
+			assertEquals(text.equalsIgnoreCase("true"), ParseHelper.parseBoolean(text, 0, text.length()), () -> "parseBoolean(\"" + text + "\")");
+	}
+
+	private String generate(String alphabet, int maxLength) {
+		int length = random.nextInt(maxLength + 1);
+		StringBuilder builder = new StringBuilder(length);
+		for (int i = 0; i < length; i++)
+			builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+		return builder.toString();
+	}
+
+	private String generateTime() {
+		StringBuilder builder = new StringBuilder(String.format("%02d:%02d", random.nextInt(30), random.nextInt(70)));
+		if (random.nextBoolean()) {
+			builder.append(String.format(":%02d", random.nextInt(70)));
+			if (random.nextBoolean())
+				builder.append('.').append(generate("0123456789", 11));
+		}
+		return builder.toString();
+	}
+
+	private static boolean isJdkInt(String text) {
+		try {
+			Integer.parseInt(text);
+			return true;
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
+
+	private static boolean isJdkDouble(String text) {
+		try {
+			Double.parseDouble(text);
+			return true;
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
+
+	private static boolean isJdkTime(String text) {
+		try {
+			LocalTime.parse(text);
+			return true;
+		} catch (DateTimeParseException e) {
+			return false;
+		}
+	}
+}